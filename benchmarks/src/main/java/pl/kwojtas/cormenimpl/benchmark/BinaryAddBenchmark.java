@@ -0,0 +1,69 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter2;
+import pl.kwojtas.cormenimpl.datastructure.BinaryNumber;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks adding two random {@code size}-bit integers stored one bit per element and packed into words.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class BinaryAddBenchmark {
+
+    @Param({"1000000", "100000000"})
+    public int size;
+
+    private IntArray firstBits;
+    private IntArray secondBits;
+    private BinaryNumber firstNumber;
+    private BinaryNumber secondNumber;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        Random random = new Random(Inputs.SEED);
+        firstBits = IntArray.ofLength(size);
+        secondBits = IntArray.ofLength(size);
+        for (int i = 1; i <= size; i++) {
+            firstBits.set(i, random.nextInt(2));
+            secondBits.set(i, random.nextInt(2));
+        }
+        firstNumber = BinaryNumber.of(firstBits);
+        secondNumber = BinaryNumber.of(secondBits);
+    }
+
+    @Benchmark
+    public IntArray binaryAddOfBits() {
+        return Chapter2.binaryAdd(firstBits, secondBits);
+    }
+
+    @Benchmark
+    public BinaryNumber binaryAdd() {
+        return Chapter2.binaryAdd(firstNumber, secondNumber);
+    }
+
+    @Benchmark
+    public BinaryNumber parallelBinaryAdd() {
+        return Chapter2.parallelBinaryAdd(firstNumber, secondNumber);
+    }
+
+}
@@ -0,0 +1,82 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter2;
+import pl.kwojtas.cormenimpl.Chapter6;
+import pl.kwojtas.cormenimpl.Chapter7;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparison sorts running in <tt>O(n lg n)</tt> time regardless of the input distribution.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Xss64m"})
+@State(Scope.Thread)
+public class ComparisonSortBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    private Array<Integer> input;
+    private Array<Integer> array;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        input = Inputs.integers(distribution.keys(size, Inputs.SEED));
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        array = Array.copyOf(input);
+    }
+
+    @Benchmark
+    public Array<Integer> mergeSort() {
+        Chapter2.mergeSort(array, 1, array.length);
+        return array;
+    }
+
+    @Benchmark
+    public Array<Integer> parallelMergeSort() {
+        Chapter2.parallelMergeSort(array, 1, array.length);
+        return array;
+    }
+
+    @Benchmark
+    public Array<Integer> adaptiveMergeSort() {
+        Chapter2.adaptiveMergeSort(array, 1, array.length);
+        return array;
+    }
+
+    @Benchmark
+    public Array<Integer> heapsort() {
+        Chapter6.heapsort(array);
+        return array;
+    }
+
+    @Benchmark
+    public Array<Integer> introsort() {
+        Chapter7.introsort(array);
+        return array;
+    }
+
+}
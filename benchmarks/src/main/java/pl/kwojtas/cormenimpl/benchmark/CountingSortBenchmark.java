@@ -0,0 +1,69 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter8;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks sequential and parallel counting sort and counting of elements on arrays of primitive values
+ * with keys from {@code 0..k}. Sizes up to <tt>10<sup>8</sup></tt> can be requested from the command line
+ * with {@code -p size=...}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class CountingSortBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    @Param({"255", "65535"})
+    public int k;
+
+    private IntArray input;
+    private IntArray sorted;
+
+    @Setup
+    public void generateInput() {
+        Random random = new Random(Inputs.SEED);
+        input = IntArray.ofLength(size);
+        for (int i = 1; i <= size; i++) {
+            input.set(i, random.nextInt(k + 1));
+        }
+        sorted = IntArray.ofLength(size);
+    }
+
+    @Benchmark
+    public IntArray countingSort() {
+        Chapter8.countingSort(input, sorted, k);
+        return sorted;
+    }
+
+    @Benchmark
+    public IntArray parallelCountingSort() {
+        Chapter8.parallelCountingSort(input, sorted, k);
+        return sorted;
+    }
+
+    @Benchmark
+    public IntArray parallelCumulativeCounts() {
+        return Chapter8.parallelCumulativeCounts(input, k);
+    }
+
+}
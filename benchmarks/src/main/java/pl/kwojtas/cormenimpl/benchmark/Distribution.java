@@ -0,0 +1,116 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import java.util.Random;
+
+/**
+ * Distributions of keys in benchmark inputs.
+ * All distributions produce {@code n} keys from {@code 0..n - 1}, so that the same input can be fed
+ * to both comparison sorts and sorts requiring a bounded range of keys.
+ */
+public enum Distribution {
+
+    /**
+     * Keys drawn uniformly at random.
+     */
+    RANDOM {
+        @Override
+        int[] keys(int n, Random random) {
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = random.nextInt(n);
+            }
+            return keys;
+        }
+    },
+
+    /**
+     * Keys in non-decreasing order.
+     */
+    SORTED {
+        @Override
+        int[] keys(int n, Random random) {
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = i;
+            }
+            return keys;
+        }
+    },
+
+    /**
+     * Keys in non-decreasing order, except for short bursts of random keys covering about 1% of the input.
+     */
+    NEARLY_SORTED {
+        @Override
+        int[] keys(int n, Random random) {
+            int[] keys = SORTED.keys(n, random);
+            int burst = Math.min(n, 100);
+            for (int bursts = n / 10000; bursts >= 0; bursts--) {
+                int start = random.nextInt(n - burst + 1);
+                for (int i = start; i < start + burst; i++) {
+                    keys[i] = random.nextInt(n);
+                }
+            }
+            return keys;
+        }
+    },
+
+    /**
+     * Keys in non-increasing order.
+     */
+    REVERSED {
+        @Override
+        int[] keys(int n, Random random) {
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = n - 1 - i;
+            }
+            return keys;
+        }
+    },
+
+    /**
+     * Keys drawn at random from a small set of distinct values.
+     */
+    FEW_UNIQUE {
+        @Override
+        int[] keys(int n, Random random) {
+            int[] keys = new int[n];
+            int distinct = Math.min(n, FEW_UNIQUE_KEYS);
+            for (int i = 0; i < n; i++) {
+                keys[i] = random.nextInt(distinct) * (n / distinct);
+            }
+            return keys;
+        }
+    },
+
+    /**
+     * Keys increasing up to the middle of the input and then decreasing.
+     */
+    ORGAN_PIPE {
+        @Override
+        int[] keys(int n, Random random) {
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = i < n / 2 ? 2 * i : 2 * (n - 1 - i) + 1;
+            }
+            return keys;
+        }
+    };
+
+    private static final int FEW_UNIQUE_KEYS = 16;
+
+    /**
+     * Generates keys following the distribution.
+     *
+     * @param n    the number of keys to generate
+     * @param seed the seed of the pseudorandom generator, so that repeated runs produce identical inputs
+     * @return the array of {@code n} keys from {@code 0..n - 1}
+     */
+    public int[] keys(int n, long seed) {
+        return keys(n, new Random(seed));
+    }
+
+    abstract int[] keys(int n, Random random);
+
+}
@@ -0,0 +1,76 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter6;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks external merge sort of a file of 16-byte records. With the largest amount of memory the whole file is
+ * sorted as a single run, which shows the cost of the merge passes made with less memory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class ExternalSortBenchmark {
+
+    private static final int RECORD_SIZE = 16;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    @Param({"1048576", "16777216", "1073741824"})
+    public long memory;
+
+    @Param({"RANDOM", "SORTED"})
+    public Distribution distribution;
+
+    private Path input;
+    private Path output;
+
+    @Setup(Level.Trial)
+    public void generateInput() throws IOException {
+        int[] keys = distribution.keys(size, Inputs.SEED);
+        ByteBuffer records = ByteBuffer.allocate(size * RECORD_SIZE);
+        for (int i = 0; i <= size - 1; i++) {
+            records.putInt(keys[i]);
+            records.putInt(i);
+            records.putLong(i);
+        }
+        input = Files.createTempFile("records", null);
+        output = Files.createTempFile("sorted", null);
+        Files.write(input, records.array());
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+    }
+
+    @Benchmark
+    public Path externalMergeSort() throws IOException {
+        Chapter6.externalMergeSort(input, output, RECORD_SIZE, memory);
+        return output;
+    }
+
+}
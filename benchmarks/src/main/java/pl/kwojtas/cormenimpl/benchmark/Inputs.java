@@ -0,0 +1,52 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import pl.kwojtas.cormenimpl.datastructure.Array;
+
+/**
+ * Converts generated keys into inputs accepted by the benchmarked algorithms.
+ */
+final class Inputs {
+
+    /**
+     * The seed used for all generated inputs, so that results are comparable between runs and releases.
+     */
+    static final long SEED = 20160101L;
+
+    private Inputs() {
+    }
+
+    static Array<Integer> integers(int[] keys) {
+        Array<Integer> A = Array.ofLength(keys.length);
+        for (int i = 1; i <= keys.length; i++) {
+            A.set(i, keys[i - 1]);
+        }
+        return A;
+    }
+
+    static Array<Double> unitInterval(int[] keys) {
+        int n = keys.length;
+        Array<Double> A = Array.ofLength(n);
+        for (int i = 1; i <= n; i++) {
+            A.set(i, (double) keys[i - 1] / n);
+        }
+        return A;
+    }
+
+    static int max(int[] keys) {
+        int max = 0;
+        for (int key : keys) {
+            max = Math.max(max, key);
+        }
+        return max;
+    }
+
+    static int digits(int number) {
+        int digits = 1;
+        while (number >= 10) {
+            number /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+}
@@ -0,0 +1,70 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter7;
+import pl.kwojtas.cormenimpl.Instrumentation;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of counting comparisons and allocations: introsort with instrumentation disabled, enabled but
+ * not measuring, and measuring.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+public class InstrumentationBenchmark {
+
+    private static final String ENABLED = "-D" + Instrumentation.PROPERTY + "=true";
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private Array<Integer> input;
+    private Array<Integer> array;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        input = Inputs.integers(Distribution.RANDOM.keys(size, Inputs.SEED));
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        array = Array.copyOf(input);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+    public Array<Integer> disabled() {
+        Chapter7.introsort(array);
+        return array;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx4g", ENABLED})
+    public Array<Integer> enabled() {
+        Chapter7.introsort(array);
+        return array;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx4g", ENABLED})
+    public Instrumentation.OperationCounts measured() {
+        return Instrumentation.measure(() -> Chapter7.introsort(array));
+    }
+
+}
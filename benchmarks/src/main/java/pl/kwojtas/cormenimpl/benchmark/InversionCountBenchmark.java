@@ -0,0 +1,60 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter2;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks counting inversions with the textbook procedure and with its parallel version.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class InversionCountBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "NEARLY_SORTED", "REVERSED"})
+    public Distribution distribution;
+
+    private Array<Integer> input;
+    private Array<Integer> array;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        input = Inputs.integers(distribution.keys(size, Inputs.SEED));
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        array = Array.copyOf(input);
+    }
+
+    @Benchmark
+    public int countInversions() {
+        return Chapter2.countInversions(array, 1, array.length);
+    }
+
+    @Benchmark
+    public long parallelCountInversions() {
+        return Chapter2.parallelCountInversions(array, 1, array.length);
+    }
+
+}
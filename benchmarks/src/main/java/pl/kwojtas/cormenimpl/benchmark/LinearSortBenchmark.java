@@ -0,0 +1,80 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter8;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks sorts from Chapter 8 that do not compare keys.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class LinearSortBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    private Array<Integer> integerInput;
+    private Array<Double> unitIntervalInput;
+    private int k;
+    private int d;
+
+    private Array<Integer> integers;
+    private Array<Integer> sorted;
+    private Array<Double> unitInterval;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        int[] keys = distribution.keys(size, Inputs.SEED);
+        integerInput = Inputs.integers(keys);
+        unitIntervalInput = Inputs.unitInterval(keys);
+        k = Inputs.max(keys);
+        d = Inputs.digits(k);
+        sorted = Array.ofLength(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        integers = Array.copyOf(integerInput);
+        unitInterval = Array.copyOf(unitIntervalInput);
+    }
+
+    @Benchmark
+    public Array<Integer> countingSort() {
+        Chapter8.countingSort(integers, sorted, k);
+        return sorted;
+    }
+
+    @Benchmark
+    public Array<Integer> radixSort() {
+        Chapter8.radixSort(integers, d);
+        return integers;
+    }
+
+    @Benchmark
+    public Array<Double> bucketSort() {
+        Chapter8.bucketSort(unitInterval);
+        return unitInterval;
+    }
+
+}
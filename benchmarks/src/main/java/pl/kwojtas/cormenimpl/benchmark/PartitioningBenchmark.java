@@ -0,0 +1,130 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter7;
+import pl.kwojtas.cormenimpl.Chapter7.PartitioningScheme;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks randomized quicksort with each of the partitioning schemes and reports, next to the running time,
+ * the number of key comparisons ({@code comparisons}) and element exchanges ({@code swaps}) made by a single sort.
+ * The counts are taken from the last sort of each iteration, so they do not depend on the number of iterations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Xss512m"})
+@State(Scope.Thread)
+public class PartitioningBenchmark {
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    @Param({"FEW_UNIQUE", "RANDOM"})
+    public Distribution distribution;
+
+    @Param
+    public PartitioningScheme scheme;
+
+    private final Tally tally = new Tally();
+    private Array<CountingKey> input;
+    private Array<CountingKey> array;
+
+    /**
+     * Counts of operations made by the last sort, reported by JMH as secondary results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counts {
+
+        public long comparisons;
+        public long swaps;
+
+    }
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        int[] keys = distribution.keys(size, Inputs.SEED);
+        input = Array.ofLength(size);
+        for (int i = 1; i <= size; i++) {
+            input.set(i, new CountingKey(keys[i - 1], tally));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        tally.comparisons = 0;
+        tally.swaps = 0;
+        array = new CountingArray<>(input, tally);
+    }
+
+    @Benchmark
+    public Array<CountingKey> randomizedQuicksort(Counts counts) {
+        Chapter7.randomizedQuicksort(array, 1, array.length, scheme);
+        counts.comparisons = tally.comparisons;
+        counts.swaps = tally.swaps;
+        return array;
+    }
+
+    private static final class Tally {
+        long comparisons;
+        long swaps;
+    }
+
+    static final class CountingKey implements Comparable<CountingKey> {
+
+        private final int key;
+        private final Tally tally;
+
+        CountingKey(int key, Tally tally) {
+            this.key = key;
+            this.tally = tally;
+        }
+
+        @Override
+        public int compareTo(CountingKey other) {
+            tally.comparisons++;
+            return Integer.compare(key, other.key);
+        }
+
+    }
+
+    static final class CountingArray<E> extends Array<E> {
+
+        private final Tally tally;
+
+        CountingArray(Array<E> otherArray, Tally tally) {
+            super(otherArray);
+            this.tally = tally;
+        }
+
+        @Override
+        public void exch(int position1, int position2) {
+            tally.swaps++;
+            super.exch(position1, position2);
+        }
+
+        @Override
+        public void exchUnchecked(int position1, int position2) {
+            tally.swaps++;
+            super.exchUnchecked(position1, position2);
+        }
+
+    }
+
+}
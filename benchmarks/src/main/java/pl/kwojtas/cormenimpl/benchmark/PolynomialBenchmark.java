@@ -0,0 +1,72 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter2;
+import pl.kwojtas.cormenimpl.datastructure.DoubleArray;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks evaluating a polynomial of a given degree at a million arguments.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class PolynomialBenchmark {
+
+    private static final int ARGUMENTS = 1000000;
+
+    @Param({"8", "64"})
+    public int degree;
+
+    private DoubleArray coefficients;
+    private DoubleArray arguments;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        Random random = new Random(Inputs.SEED);
+        coefficients = DoubleArray.ofLength(degree + 1);
+        for (int i = 1; i <= degree + 1; i++) {
+            coefficients.set(i, 2.0 * random.nextDouble() - 1.0);
+        }
+        arguments = DoubleArray.ofLength(ARGUMENTS);
+        for (int j = 1; j <= ARGUMENTS; j++) {
+            arguments.set(j, 2.0 * random.nextDouble() - 1.0);
+        }
+    }
+
+    @Benchmark
+    public DoubleArray hornerAtEachArgument() {
+        DoubleArray values = DoubleArray.ofLength(ARGUMENTS);
+        for (int j = 1; j <= ARGUMENTS; j++) {
+            values.set(j, Chapter2.horner(coefficients, arguments.at(j)));
+        }
+        return values;
+    }
+
+    @Benchmark
+    public DoubleArray horner() {
+        return Chapter2.horner(coefficients, arguments);
+    }
+
+    @Benchmark
+    public DoubleArray parallelHorner() {
+        return Chapter2.parallelHorner(coefficients, arguments);
+    }
+
+}
@@ -0,0 +1,88 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter8;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
+import pl.kwojtas.cormenimpl.datastructure.LongArray;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks radix sorts from Chapter 8 on arrays of primitive values.
+ * Sizes up to <tt>10<sup>8</sup></tt> can be requested from the command line with {@code -p size=...}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class PrimitiveRadixSortBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "FEW_UNIQUE"})
+    public Distribution distribution;
+
+    private IntArray intInput;
+    private LongArray longInput;
+    private int d;
+
+    private IntArray ints;
+    private LongArray longs;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        int[] keys = distribution.keys(size, Inputs.SEED);
+        intInput = IntArray.ofLength(size);
+        longInput = LongArray.ofLength(size);
+        for (int i = 1; i <= size; i++) {
+            intInput.set(i, keys[i - 1]);
+            longInput.set(i, (long) keys[i - 1] * size - keys[size - i]);
+        }
+        d = Inputs.digits(Inputs.max(keys));
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        ints = IntArray.copyOf(intInput);
+        longs = LongArray.copyOf(longInput);
+    }
+
+    @Benchmark
+    public IntArray radixSort() {
+        Chapter8.radixSort(ints, d);
+        return ints;
+    }
+
+    @Benchmark
+    public IntArray binaryRadixSortOnBytes() {
+        Chapter8.binaryRadixSort(ints, 8);
+        return ints;
+    }
+
+    @Benchmark
+    public IntArray binaryRadixSort() {
+        Chapter8.binaryRadixSort(ints);
+        return ints;
+    }
+
+    @Benchmark
+    public LongArray binaryRadixSortOfLongs() {
+        Chapter8.binaryRadixSort(longs);
+        return longs;
+    }
+
+}
@@ -0,0 +1,74 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter2;
+import pl.kwojtas.cormenimpl.Chapter8;
+import pl.kwojtas.cormenimpl.datastructure.DoubleArray;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks merge sort and bucket sort on arrays of primitive values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class PrimitiveSortBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "FEW_UNIQUE"})
+    public Distribution distribution;
+
+    private IntArray intInput;
+    private DoubleArray unitIntervalInput;
+
+    private IntArray ints;
+    private DoubleArray unitInterval;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        int[] keys = distribution.keys(size, Inputs.SEED);
+        intInput = IntArray.ofLength(size);
+        unitIntervalInput = DoubleArray.ofLength(size);
+        for (int i = 1; i <= size; i++) {
+            intInput.set(i, keys[i - 1]);
+            unitIntervalInput.set(i, (double) keys[i - 1] / size);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        ints = IntArray.copyOf(intInput);
+        unitInterval = DoubleArray.copyOf(unitIntervalInput);
+    }
+
+    @Benchmark
+    public IntArray mergeSort() {
+        Chapter2.mergeSort(ints, 1, ints.length);
+        return ints;
+    }
+
+    @Benchmark
+    public DoubleArray bucketSort() {
+        Chapter8.bucketSort(unitInterval);
+        return unitInterval;
+    }
+
+}
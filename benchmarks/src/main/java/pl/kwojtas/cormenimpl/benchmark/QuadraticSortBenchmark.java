@@ -0,0 +1,89 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter2;
+import pl.kwojtas.cormenimpl.Chapter7;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks sorts that run in <tt>&Theta;(n<sup>2</sup>)</tt> time on some of the input distributions
+ * (insertion sort on reversed input, quicksort variants on sorted, reversed or few-unique inputs).
+ * Larger sizes can be requested from the command line with {@code -p size=...}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Xss512m"})
+@State(Scope.Thread)
+public class QuadraticSortBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    private Array<Integer> input;
+    private Array<Integer> array;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        input = Inputs.integers(distribution.keys(size, Inputs.SEED));
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        array = Array.copyOf(input);
+    }
+
+    @Benchmark
+    public Array<Integer> insertionSort() {
+        Chapter2.insertionSort(array);
+        return array;
+    }
+
+    @Benchmark
+    public Array<Integer> quicksort() {
+        Chapter7.quicksort(array, 1, array.length);
+        return array;
+    }
+
+    @Benchmark
+    public Array<Integer> randomizedQuicksort() {
+        Chapter7.randomizedQuicksort(array, 1, array.length);
+        return array;
+    }
+
+    @Benchmark
+    public Array<Integer> hoareQuicksort() {
+        Chapter7.hoareQuicksort(array, 1, array.length);
+        return array;
+    }
+
+    @Benchmark
+    public Array<Integer> quicksort__() {
+        Chapter7.quicksort__(array, 1, array.length);
+        return array;
+    }
+
+    @Benchmark
+    public Array<Integer> parallelQuicksort() {
+        Chapter7.parallelQuicksort(array, 1, array.length);
+        return array;
+    }
+
+}
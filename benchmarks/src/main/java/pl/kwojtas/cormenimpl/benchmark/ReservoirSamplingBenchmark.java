@@ -0,0 +1,51 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter5;
+import pl.kwojtas.cormenimpl.datastructure.Reservoir;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks sampling streams of primitive values using reservoir sampling, uniform and weighted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class ReservoirSamplingBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    @Param({"10", "1000"})
+    public int k;
+
+    @Benchmark
+    public Reservoir<Integer> reservoirSample() {
+        return Chapter5.reservoirSample(IntStream.range(0, size), k);
+    }
+
+    @Benchmark
+    public Reservoir<Integer> reservoirSampleOfIterator() {
+        return Chapter5.reservoirSample(IntStream.range(0, size).boxed().iterator(), k);
+    }
+
+    @Benchmark
+    public Reservoir<Long> weightedReservoirSample() {
+        return Chapter5.weightedReservoirSample(IntStream.range(0, size).mapToDouble(i -> 1 + (i & 7)), k);
+    }
+
+}
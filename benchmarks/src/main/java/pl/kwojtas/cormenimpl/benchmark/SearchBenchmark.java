@@ -0,0 +1,98 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter2;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.EytzingerArray;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks repeated searches in a sorted array of distinct keys, about half of which are successful.
+ * A single operation is a batch of {@link #QUERIES} searches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+    private static final int QUERIES = 1 << 16;
+
+    @Param({"1000", "1000000", "10000000"})
+    public int size;
+
+    private Array<Integer> array;
+    private EytzingerArray eytzingerArray;
+    private int[] queries;
+    private Array<Integer> boxedQueries;
+    private IntArray primitiveQueries;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        array = Array.ofLength(size);
+        IntArray primitiveArray = IntArray.ofLength(size);
+        for (int i = 1; i <= size; i++) {
+            array.set(i, 2 * i);
+            primitiveArray.set(i, 2 * i);
+        }
+        eytzingerArray = new EytzingerArray(primitiveArray);
+        Random random = new Random(Inputs.SEED);
+        queries = new int[QUERIES];
+        for (int i = 0; i <= QUERIES - 1; i++) {
+            queries[i] = 1 + random.nextInt(2 * size);
+        }
+        boxedQueries = Array.ofLength(QUERIES);
+        primitiveQueries = IntArray.ofLength(QUERIES);
+        for (int i = 1; i <= QUERIES; i++) {
+            boxedQueries.set(i, queries[i - 1]);
+            primitiveQueries.set(i, queries[i - 1]);
+        }
+    }
+
+    @Benchmark
+    public long iterativeBinarySearch() {
+        long sum = 0;
+        for (int v : queries) {
+            Integer position = Chapter2.iterativeBinarySearch(array, v);
+            sum += position != null ? position : 0;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long eytzingerSearch() {
+        long sum = 0;
+        for (int v : queries) {
+            Integer position = Chapter2.eytzingerSearch(eytzingerArray, v);
+            sum += position != null ? position : 0;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Array<Integer> batchBinarySearch() {
+        return Chapter2.batchBinarySearch(array, boxedQueries);
+    }
+
+    @Benchmark
+    public IntArray batchEytzingerSearch() {
+        return Chapter2.eytzingerSearchAll(eytzingerArray, primitiveQueries);
+    }
+
+}
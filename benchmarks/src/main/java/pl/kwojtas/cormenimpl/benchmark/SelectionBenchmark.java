@@ -0,0 +1,69 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter9;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks finding the median using the randomized, the worst-case linear-time and the Floyd-Rivest selection,
+ * and finding deciles.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class SelectionBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private Array<Integer> input;
+    private Array<Integer> array;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        input = Inputs.integers(Distribution.RANDOM.keys(size, Inputs.SEED));
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        array = Array.copyOf(input);
+    }
+
+    @Benchmark
+    public Integer randomizedSelect() {
+        return Chapter9.randomizedSelect(array, 1, size, (size + 1) / 2);
+    }
+
+    @Benchmark
+    public Integer select() {
+        return Chapter9.select(array, 1, size, (size + 1) / 2);
+    }
+
+    @Benchmark
+    public Integer floydRivestSelect() {
+        return Chapter9.floydRivestSelect(array, 1, size, (size + 1) / 2);
+    }
+
+    @Benchmark
+    public Set<Integer> deciles() {
+        return Chapter9.quantiles(array, 1, size, 10);
+    }
+
+}
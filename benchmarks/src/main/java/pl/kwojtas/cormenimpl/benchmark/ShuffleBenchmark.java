@@ -0,0 +1,76 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter5;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the sequential and the parallel permuting of arrays in place, and permuting arrays by sorting.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class ShuffleBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    private Array<Integer> array;
+    private IntArray intArray;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        int[] keys = Distribution.SORTED.keys(size, Inputs.SEED);
+        array = Inputs.integers(keys);
+        intArray = IntArray.ofLength(size);
+        for (int i = 1; i <= size; i++) {
+            intArray.set(i, keys[i - 1]);
+        }
+    }
+
+    @Benchmark
+    public Array<Integer> randomizeInPlace() {
+        Chapter5.randomizeInPlace(array);
+        return array;
+    }
+
+    @Benchmark
+    public Array<Integer> parallelRandomizeInPlace() {
+        Chapter5.parallelRandomizeInPlace(array);
+        return array;
+    }
+
+    @Benchmark
+    public IntArray parallelRandomizeInPlaceOfIntegers() {
+        Chapter5.parallelRandomizeInPlace(intArray);
+        return intArray;
+    }
+
+    @Benchmark
+    public Array<Integer> permuteBySorting() {
+        return Chapter5.permuteBySorting(array);
+    }
+
+    @Benchmark
+    public Array<Integer> permuteByRadixSorting() {
+        return Chapter5.permuteByRadixSorting(array);
+    }
+
+}
@@ -0,0 +1,121 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Fundamental;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks sorts of short arrays, as performed at the leaves of recursive sorts.
+ * Each operation sorts {@link #ARRAYS} consecutive subarrays of length {@code length} of a random array.
+ * Insertion sort (as used at the leaves before) is reimplemented here, since the library does not expose
+ * insertion sort of subarrays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class SmallSortBenchmark {
+
+    static final int ARRAYS = 16384;
+
+    @Param({"4", "8", "16"})
+    public int length;
+
+    private Array<Integer> input;
+    private IntArray intInput;
+    private Array<Integer> array;
+    private IntArray ints;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        Random random = new Random(Inputs.SEED);
+        int n = ARRAYS * length;
+        input = Array.ofLength(n);
+        intInput = IntArray.ofLength(n);
+        for (int i = 1; i <= n; i++) {
+            int key = random.nextInt(n);
+            input.set(i, key);
+            intInput.set(i, key);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        array = Array.copyOf(input);
+        ints = IntArray.copyOf(intInput);
+    }
+
+    @Benchmark
+    public Array<Integer> insertionSort() {
+        for (int p = 1; p <= array.length; p += length) {
+            insertionSort(array, p, p + length - 1);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public Array<Integer> sortingNetworkSort() {
+        for (int p = 1; p <= array.length; p += length) {
+            Fundamental.sortingNetworkSort(array, p, p + length - 1);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public IntArray insertionSortOfInts() {
+        for (int p = 1; p <= ints.length; p += length) {
+            insertionSort(ints, p, p + length - 1);
+        }
+        return ints;
+    }
+
+    @Benchmark
+    public IntArray sortingNetworkSortOfInts() {
+        for (int p = 1; p <= ints.length; p += length) {
+            Fundamental.sortingNetworkSort(ints, p, p + length - 1);
+        }
+        return ints;
+    }
+
+    private static void insertionSort(Array<Integer> A, int p, int r) {
+        for (int j = p + 1; j <= r; j++) {
+            Integer key = A.atUnchecked(j);
+            int i = j - 1;
+            while (i >= p && A.atUnchecked(i).compareTo(key) > 0) {
+                A.setUnchecked(i + 1, A.atUnchecked(i));
+                i--;
+            }
+            A.setUnchecked(i + 1, key);
+        }
+    }
+
+    private static void insertionSort(IntArray A, int p, int r) {
+        for (int j = p + 1; j <= r; j++) {
+            int key = A.atUnchecked(j);
+            int i = j - 1;
+            while (i >= p && A.atUnchecked(i) > key) {
+                A.setUnchecked(i + 1, A.atUnchecked(i));
+                i--;
+            }
+            A.setUnchecked(i + 1, key);
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter2;
+import pl.kwojtas.cormenimpl.Chapter7;
+import pl.kwojtas.cormenimpl.Sorting;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the sort choosing an algorithm by looking at the input against the general-purpose comparison sorts.
+ * Keys can be spread over the whole range of integers, keeping their order, so that counting sort does not apply.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class SortDispatchBenchmark {
+
+    @Param({"100", "1000", "10000", "1000000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    @Param({"false", "true"})
+    public boolean spread;
+
+    private Array<Integer> input;
+    private Array<Integer> array;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        int[] keys = distribution.keys(size, Inputs.SEED);
+        if (spread) {
+            int factor = Integer.MAX_VALUE / size;
+            for (int i = 0; i < size; i++) {
+                keys[i] *= factor;
+            }
+        }
+        input = Inputs.integers(keys);
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        array = Array.copyOf(input);
+    }
+
+    @Benchmark
+    public Array<Integer> sort() {
+        Sorting.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public Array<Integer> adaptiveMergeSort() {
+        Chapter2.adaptiveMergeSort(array, 1, array.length);
+        return array;
+    }
+
+    @Benchmark
+    public Array<Integer> introsort() {
+        Chapter7.introsort(array);
+        return array;
+    }
+
+}
@@ -0,0 +1,84 @@
+package pl.kwojtas.cormenimpl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.kwojtas.cormenimpl.Chapter7;
+import pl.kwojtas.cormenimpl.Chapter8;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks sorts of strings made of lowercase letters, of lengths from 1 to {@code maxLength}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class StringSortBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"8", "32"})
+    public int maxLength;
+
+    private Array<String> input;
+    private Array<String> array;
+
+    @Setup(Level.Trial)
+    public void generateInput() {
+        Random random = new Random(Inputs.SEED);
+        input = Array.ofLength(size);
+        for (int i = 1; i <= size; i++) {
+            char[] characters = new char[1 + random.nextInt(maxLength)];
+            for (int j = 0; j < characters.length; j++) {
+                characters[j] = (char) ('a' + random.nextInt(26));
+            }
+            input.set(i, new String(characters));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copyInput() {
+        array = Array.copyOf(input);
+    }
+
+    @Benchmark
+    public Array<String> variableLengthStringsSort() {
+        Chapter8.variableLengthStringsSort(array, 1);
+        return array;
+    }
+
+    @Benchmark
+    public Array<String> introsort() {
+        Chapter7.introsort(array);
+        return array;
+    }
+
+    @Benchmark
+    public Array<String> americanFlagSort() {
+        Chapter8.americanFlagSort(array);
+        return array;
+    }
+
+    @Benchmark
+    public Array<String> parallelAmericanFlagSort() {
+        Chapter8.parallelAmericanFlagSort(array);
+        return array;
+    }
+
+}
@@ -1,10 +1,23 @@
 package pl.kwojtas.cormenimpl;
 
 import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.BinaryNumber;
+import pl.kwojtas.cormenimpl.datastructure.DoubleArray;
+import pl.kwojtas.cormenimpl.datastructure.EytzingerArray;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
 import pl.kwojtas.cormenimpl.datastructure.ZeroBasedIndexedArray;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import static pl.kwojtas.cormenimpl.Fundamental.SORTING_NETWORK_MAX_LENGTH;
+import static pl.kwojtas.cormenimpl.Fundamental.ceil;
+import static pl.kwojtas.cormenimpl.Fundamental.forEachChunk;
 import static pl.kwojtas.cormenimpl.Fundamental.greater;
+import static pl.kwojtas.cormenimpl.Fundamental.leq;
 import static pl.kwojtas.cormenimpl.Fundamental.less;
+import static pl.kwojtas.cormenimpl.Fundamental.sortingNetworkSort;
 
 /**
  * Implements algorithms from Chapter 2.
@@ -23,13 +36,34 @@ public final class Chapter2 {
      */
     public static <E extends Comparable<? super E>> void insertionSort(Array<E> A) {
         for (int j = 2; j <= A.length; j++) {
-            E key = A.at(j);
+            E key = A.atUnchecked(j);
             int i = j - 1;
-            while (i > 0 && greater(A.at(i), key)) {
-                A.set(i + 1, A.at(i));
+            while (i > 0 && greater(A.atUnchecked(i), key)) {
+                A.setUnchecked(i + 1, A.atUnchecked(i));
                 i--;
             }
-            A.set(i + 1, key);
+            A.setUnchecked(i + 1, key);
+        }
+    }
+
+    /**
+     * Sorts elements of a subarray using insertion sort.
+     * <p><span style="font-variant:small-caps;">Insertion-Sort</span> from subchapter 2.1.</p>
+     *
+     * @param A   the array of elements to sort
+     * @param p   the index of the beginning of subarray in {@code A} being sorted
+     * @param r   the index of the end of subarray in {@code A} being sorted
+     * @param <E> the type of elements in {@code A}
+     */
+    static <E extends Comparable<? super E>> void insertionSort(Array<E> A, int p, int r) {
+        for (int j = p + 1; j <= r; j++) {
+            E key = A.atUnchecked(j);
+            int i = j - 1;
+            while (i >= p && greater(A.atUnchecked(i), key)) {
+                A.setUnchecked(i + 1, A.atUnchecked(i));
+                i--;
+            }
+            A.setUnchecked(i + 1, key);
         }
     }
 
@@ -94,6 +128,160 @@ public final class Chapter2 {
         return C;
     }
 
+    /**
+     * Adds two {@code n}-bit non-negative integers - a version for arrays of primitive values.
+     * <p><span style="font-variant:small-caps;">Binary-Add</span> from solution to exercise 2.1-4.</p>
+     *
+     * @param A the {@code n}-element array containing bits of integer {@code a} from the least to the most significant
+     * @param B the {@code n}-element array containing bits of integer {@code b} from the least to the most significant
+     * @return the {@code (n + 1)}-element array containing bits of integer {@code a + b} from the least to the most significant
+     */
+    public static IntArray binaryAdd(IntArray A, IntArray B) {
+        int n = A.length;
+        IntArray C = IntArray.ofLength(n + 1);
+        for (int i = 1; i <= n; i++) {
+            int sum = A.at(i) + B.at(i) + C.at(i);
+            C.set(i, sum % 2);
+            C.set(i + 1, sum / 2);
+        }
+        return C;
+    }
+
+    /**
+     * Adds two {@code n}-bit non-negative integers - a version for numbers with packed bits.
+     * The words of both numbers are added one at a time, passing the carry between words.
+     *
+     * @param A the {@code n}-bit integer {@code a}
+     * @param B the {@code n}-bit integer {@code b}
+     * @return the {@code (n + 1)}-bit integer {@code a + b}
+     */
+    public static BinaryNumber binaryAdd(BinaryNumber A, BinaryNumber B) {
+        BinaryNumber C = BinaryNumber.ofLength(A.length + 1);
+        long carry = addWords(A.words, B.words, C.words, 0, A.words.length, 0);
+        if (C.words.length > A.words.length) {
+            C.words[A.words.length] = carry;
+        }
+        return C;
+    }
+
+    private static long addWords(long[] a, long[] b, long[] c, int begin, int end, long carry) {
+        for (int i = begin; i <= end - 1; i++) {
+            long sum = a[i] + b[i] + carry;
+            carry = ((a[i] & b[i]) | ((a[i] | b[i]) & ~sum)) >>> 63;
+            c[i] = sum;
+        }
+        return carry;
+    }
+
+    /**
+     * Subtracts two {@code n}-bit non-negative integers with packed bits.
+     *
+     * @param A the {@code n}-bit integer {@code a}
+     * @param B the {@code n}-bit integer {@code b}
+     * @return the {@code n}-bit integer {@code a - b}
+     * @throws IllegalStateException if {@code a < b}
+     */
+    public static BinaryNumber binarySubtract(BinaryNumber A, BinaryNumber B) {
+        BinaryNumber C = BinaryNumber.ofLength(A.length);
+        long borrow = 0;
+        for (int i = 0; i <= A.words.length - 1; i++) {
+            long a = A.words[i];
+            long b = B.words[i];
+            long difference = a - b - borrow;
+            borrow = ((~a & b) | (~(a ^ b) & difference)) >>> 63;
+            C.words[i] = difference;
+        }
+        if (borrow != 0) {
+            throw new IllegalStateException("underflow");
+        }
+        return C;
+    }
+
+    /**
+     * Compares two {@code n}-bit non-negative integers with packed bits.
+     *
+     * @param A the {@code n}-bit integer {@code a}
+     * @param B the {@code n}-bit integer {@code b}
+     * @return a negative value, zero or a positive value if {@code a < b}, {@code a = b} or {@code a > b}, respectively
+     */
+    public static int binaryCompare(BinaryNumber A, BinaryNumber B) {
+        for (int i = A.words.length - 1; i >= 0; i--) {
+            if (A.words[i] != B.words[i]) {
+                return Long.compareUnsigned(A.words[i], B.words[i]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * The default number of words that {@link #parallelBinaryAdd(BinaryNumber, BinaryNumber)} adds in a single task.
+     */
+    public static final int PARALLEL_BINARY_ADD_THRESHOLD = 4096;
+
+    /**
+     * Adds two {@code n}-bit non-negative integers with packed bits, in parallel with the fork-join framework.
+     * Blocks of {@link #PARALLEL_BINARY_ADD_THRESHOLD} words are added in parallel tasks.
+     *
+     * @param A the {@code n}-bit integer {@code a}
+     * @param B the {@code n}-bit integer {@code b}
+     * @return the {@code (n + 1)}-bit integer {@code a + b}
+     */
+    public static BinaryNumber parallelBinaryAdd(BinaryNumber A, BinaryNumber B) {
+        return parallelBinaryAdd(A, B, PARALLEL_BINARY_ADD_THRESHOLD);
+    }
+
+    /**
+     * Adds two {@code n}-bit non-negative integers with packed bits, in parallel with the fork-join framework.
+     * <p>The words are split into blocks of {@code threshold} words, which are added in parallel tasks assuming that
+     * no carry comes into them. Every block either generates a carry, or propagates an incoming carry if its sum is
+     * all ones, or kills it. The carries coming into blocks are then computed from these signals as in
+     * a carry-lookahead adder, and in the end the blocks receiving a carry are incremented in parallel tasks.</p>
+     *
+     * @param A         the {@code n}-bit integer {@code a}
+     * @param B         the {@code n}-bit integer {@code b}
+     * @param threshold the number of words that are added in a single task
+     * @return the {@code (n + 1)}-bit integer {@code a + b}
+     */
+    public static BinaryNumber parallelBinaryAdd(BinaryNumber A, BinaryNumber B, int threshold) {
+        int words = A.words.length;
+        int blocks = ceil(words, threshold);
+        if (blocks <= 1) {
+            return binaryAdd(A, B);
+        }
+        BinaryNumber C = BinaryNumber.ofLength(A.length + 1);
+        boolean[] generate = new boolean[blocks];
+        boolean[] propagate = new boolean[blocks];
+        forEachChunk(blocks, t -> {
+            int begin = t * threshold;
+            int end = Math.min(words, begin + threshold);
+            generate[t] = addWords(A.words, B.words, C.words, begin, end, 0) != 0;
+            long allOnes = -1L;
+            for (int i = begin; i <= end - 1; i++) {
+                allOnes &= C.words[i];
+            }
+            propagate[t] = allOnes == -1L;
+        });
+        boolean[] carry = new boolean[blocks + 1];
+        for (int t = 0; t <= blocks - 1; t++) {
+            carry[t + 1] = generate[t] || propagate[t] && carry[t];
+        }
+        forEachChunk(blocks, t -> {
+            if (carry[t]) {
+                int end = Math.min(words, (t + 1) * threshold);
+                int i = t * threshold;
+                C.words[i]++;
+                while (C.words[i] == 0 && i + 1 < end) {
+                    i++;
+                    C.words[i]++;
+                }
+            }
+        });
+        if (C.words.length > words && carry[blocks]) {
+            C.words[words] = 1;
+        }
+        return C;
+    }
+
     /**
      * Sorts elements using selection sort.
      * <p><span style="font-variant:small-caps;">Selection-Sort</span> from solution to exercise 2.2-2.</p>
@@ -129,21 +317,21 @@ public final class Chapter2 {
         Array<Integer> L = Array.ofLength(n1 + 1);
         Array<Integer> R = Array.ofLength(n2 + 1);
         for (int i = 1; i <= n1; i++) {
-            L.set(i, A.at(p + i - 1));
+            L.setUnchecked(i, A.atUnchecked(p + i - 1));
         }
         for (int j = 1; j <= n2; j++) {
-            R.set(j, A.at(q + j));
+            R.setUnchecked(j, A.atUnchecked(q + j));
         }
-        L.set(n1 + 1, Integer.MAX_VALUE);
-        R.set(n2 + 1, Integer.MAX_VALUE);
+        L.setUnchecked(n1 + 1, Integer.MAX_VALUE);
+        R.setUnchecked(n2 + 1, Integer.MAX_VALUE);
         int i = 1;
         int j = 1;
         for (int k = p; k <= r; k++) {
-            if (L.at(i) <= R.at(j)) {
-                A.set(k, L.at(i));
+            if (L.atUnchecked(i) <= R.atUnchecked(j)) {
+                A.setUnchecked(k, L.atUnchecked(i));
                 i++;
             } else {
-                A.set(k, R.at(j));
+                A.setUnchecked(k, R.atUnchecked(j));
                 j++;
             }
         }
@@ -166,6 +354,539 @@ public final class Chapter2 {
         }
     }
 
+    /**
+     * Merges two sorted subarrays {@code A[p..q]} and {@code A[q + 1..r]} into one sorted array {@code A[p..r]}
+     * - a version for arrays of primitive values.
+     * <p><span style="font-variant:small-caps;">Merge</span> from subchapter 2.3.</p>
+     *
+     * @param A the array containing subarrays to merge
+     * @param p the index of the beginning of the first subarray in {@code A} being merged
+     * @param q the index of the end of the first subarray in {@code A} being merged
+     * @param r the index of end of the second subarray in {@code A} being merged
+     */
+    static void merge(IntArray A, int p, int q, int r) {
+        int n1 = q - p + 1;
+        int n2 = r - q;
+        IntArray L = IntArray.ofLength(n1 + 1);
+        IntArray R = IntArray.ofLength(n2 + 1);
+        for (int i = 1; i <= n1; i++) {
+            L.setUnchecked(i, A.atUnchecked(p + i - 1));
+        }
+        for (int j = 1; j <= n2; j++) {
+            R.setUnchecked(j, A.atUnchecked(q + j));
+        }
+        L.setUnchecked(n1 + 1, Integer.MAX_VALUE);
+        R.setUnchecked(n2 + 1, Integer.MAX_VALUE);
+        int i = 1;
+        int j = 1;
+        for (int k = p; k <= r; k++) {
+            if (L.atUnchecked(i) <= R.atUnchecked(j)) {
+                A.setUnchecked(k, L.atUnchecked(i));
+                i++;
+            } else {
+                A.setUnchecked(k, R.atUnchecked(j));
+                j++;
+            }
+        }
+    }
+
+    /**
+     * Sorts elements using merge sort - a version for arrays of primitive values.
+     * Subarrays of at most {@link Fundamental#SORTING_NETWORK_MAX_LENGTH} elements are sorted using a sorting network.
+     * <p><span style="font-variant:small-caps;">Merge-Sort</span> from subchapter 2.3.</p>
+     *
+     * @param A the array of elements to sort
+     * @param p the index of the beginning of subarray in {@code A} being sorted
+     * @param r the index of the end of subarray in {@code A} being sorted
+     */
+    public static void mergeSort(IntArray A, int p, int r) {
+        if (r - p + 1 <= SORTING_NETWORK_MAX_LENGTH) {
+            sortingNetworkSort(A, p, r);
+        } else {
+            int q = (p + r) / 2;
+            mergeSort(A, p, q);
+            mergeSort(A, q + 1, r);
+            merge(A, p, q, r);
+        }
+    }
+
+    /**
+     * The default length of subarrays that {@link #parallelMergeSort(Array, int, int)} sorts in a single task.
+     */
+    public static final int PARALLEL_MERGE_SORT_THRESHOLD = 8192;
+
+    private static final int MERGE_SORT_INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Sorts elements using merge sort parallelized with the fork-join framework.
+     * Subarrays longer than {@link #PARALLEL_MERGE_SORT_THRESHOLD} are sorted in parallel tasks, short runs are sorted
+     * using insertion sort, and all merges share a single auxiliary array. The sort is stable.
+     *
+     * @param A   the array of elements to sort
+     * @param p   the index of the beginning of subarray in {@code A} being sorted
+     * @param r   the index of the end of subarray in {@code A} being sorted
+     * @param <E> the type of elements in {@code A}
+     */
+    public static <E extends Comparable<? super E>> void parallelMergeSort(Array<E> A, int p, int r) {
+        parallelMergeSort(A, p, r, PARALLEL_MERGE_SORT_THRESHOLD, true);
+    }
+
+    /**
+     * Sorts elements using merge sort parallelized with the fork-join framework.
+     * Subarrays longer than {@code threshold} are sorted in parallel tasks, short runs are sorted using insertion sort,
+     * and all merges share a single auxiliary array. The sort is stable.
+     *
+     * @param A             the array of elements to sort
+     * @param p             the index of the beginning of subarray in {@code A} being sorted
+     * @param r             the index of the end of subarray in {@code A} being sorted
+     * @param threshold     the length of subarrays that are sorted in a single task
+     * @param parallelMerge {@code true} if merges of subarrays longer than {@code threshold} should be parallelized
+     *                      as well, or {@code false} if they should be performed sequentially
+     * @param <E>           the type of elements in {@code A}
+     */
+    public static <E extends Comparable<? super E>> void parallelMergeSort(
+            Array<E> A, int p, int r, int threshold, boolean parallelMerge) {
+        if (p < r) {
+            Array<E> B = Array.ofLength(A.length);
+            ForkJoinPool.commonPool().invoke(new MergeSortTask<>(A, B, p, r, threshold, parallelMerge));
+        }
+    }
+
+    private static final class MergeSortTask<E extends Comparable<? super E>> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Array<E> A;
+        private final Array<E> B;
+        private final int p;
+        private final int r;
+        private final int threshold;
+        private final boolean parallelMerge;
+
+        MergeSortTask(Array<E> A, Array<E> B, int p, int r, int threshold, boolean parallelMerge) {
+            this.A = A;
+            this.B = B;
+            this.p = p;
+            this.r = r;
+            this.threshold = threshold;
+            this.parallelMerge = parallelMerge;
+        }
+
+        @Override
+        protected void compute() {
+            if (r - p + 1 <= threshold) {
+                mergeSortUsingBuffer(A, B, p, r);
+                return;
+            }
+            int q = (p + r) / 2;
+            invokeAll(new MergeSortTask<>(A, B, p, q, threshold, parallelMerge),
+                    new MergeSortTask<>(A, B, q + 1, r, threshold, parallelMerge));
+            if (leq(A.atUnchecked(q), A.atUnchecked(q + 1))) {
+                return;
+            }
+            copy(A, B, p, r);
+            if (parallelMerge) {
+                new MergeTask<>(B, p, q, q + 1, r, A, p, threshold).compute();
+            } else {
+                mergeFromBuffer(B, p, q, q + 1, r, A, p);
+            }
+        }
+    }
+
+    private static final class MergeTask<E extends Comparable<? super E>> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Array<E> T;
+        private final int p1;
+        private final int r1;
+        private final int p2;
+        private final int r2;
+        private final Array<E> A;
+        private final int p3;
+        private final int threshold;
+
+        MergeTask(Array<E> T, int p1, int r1, int p2, int r2, Array<E> A, int p3, int threshold) {
+            this.T = T;
+            this.p1 = p1;
+            this.r1 = r1;
+            this.p2 = p2;
+            this.r2 = r2;
+            this.A = A;
+            this.p3 = p3;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = r1 - p1 + 1;
+            int n2 = r2 - p2 + 1;
+            if (n1 + n2 <= threshold || n1 == 0 || n2 == 0) {
+                mergeFromBuffer(T, p1, r1, p2, r2, A, p3);
+                return;
+            }
+            int q1, q2;
+            if (n1 >= n2) {
+                q1 = (p1 + r1) / 2;
+                q2 = lowerBound(T, p2, r2, T.atUnchecked(q1));
+                int q3 = p3 + (q1 - p1) + (q2 - p2);
+                A.setUnchecked(q3, T.atUnchecked(q1));
+                invokeAll(new MergeTask<>(T, p1, q1 - 1, p2, q2 - 1, A, p3, threshold),
+                        new MergeTask<>(T, q1 + 1, r1, q2, r2, A, q3 + 1, threshold));
+            } else {
+                q2 = (p2 + r2) / 2;
+                q1 = upperBound(T, p1, r1, T.atUnchecked(q2));
+                int q3 = p3 + (q1 - p1) + (q2 - p2);
+                A.setUnchecked(q3, T.atUnchecked(q2));
+                invokeAll(new MergeTask<>(T, p1, q1 - 1, p2, q2 - 1, A, p3, threshold),
+                        new MergeTask<>(T, q1, r1, q2 + 1, r2, A, q3 + 1, threshold));
+            }
+        }
+    }
+
+    private static <E extends Comparable<? super E>> void mergeSortUsingBuffer(Array<E> A, Array<E> B, int p, int r) {
+        if (r - p + 1 <= MERGE_SORT_INSERTION_SORT_THRESHOLD) {
+            insertionSort(A, p, r);
+            return;
+        }
+        int q = (p + r) / 2;
+        mergeSortUsingBuffer(A, B, p, q);
+        mergeSortUsingBuffer(A, B, q + 1, r);
+        if (greater(A.atUnchecked(q), A.atUnchecked(q + 1))) {
+            copy(A, B, p, r);
+            mergeFromBuffer(B, p, q, q + 1, r, A, p);
+        }
+    }
+
+    private static <E> void copy(Array<E> A, Array<E> B, int p, int r) {
+        for (int i = p; i <= r; i++) {
+            B.setUnchecked(i, A.atUnchecked(i));
+        }
+    }
+
+    private static <E extends Comparable<? super E>> void mergeFromBuffer(
+            Array<E> T, int p1, int r1, int p2, int r2, Array<E> A, int p3) {
+        int i = p1;
+        int j = p2;
+        int k = p3;
+        while (i <= r1 && j <= r2) {
+            if (leq(T.atUnchecked(i), T.atUnchecked(j))) {
+                A.setUnchecked(k, T.atUnchecked(i));
+                i++;
+            } else {
+                A.setUnchecked(k, T.atUnchecked(j));
+                j++;
+            }
+            k++;
+        }
+        while (i <= r1) {
+            A.setUnchecked(k, T.atUnchecked(i));
+            i++;
+            k++;
+        }
+        while (j <= r2) {
+            A.setUnchecked(k, T.atUnchecked(j));
+            j++;
+            k++;
+        }
+    }
+
+    private static <E extends Comparable<? super E>> int lowerBound(Array<E> T, int low, int high, E x) {
+        high++;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (less(T.atUnchecked(mid), x)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static <E extends Comparable<? super E>> int upperBound(Array<E> T, int low, int high, E x) {
+        high++;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (leq(T.atUnchecked(mid), x)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final int ADAPTIVE_MERGE_SORT_MIN_MERGE = 64;
+
+    private static final int ADAPTIVE_MERGE_SORT_MIN_GALLOP = 7;
+
+    /**
+     * Sorts elements using an adaptive merge sort that merges natural runs of the input, in the manner of TimSort.
+     * Nondecreasing runs and strictly decreasing runs (which are reversed) are found in a single scan,
+     * runs shorter than a minimum length between 32 and 64 are extended using insertion sort, and runs are merged
+     * so that the lengths of pending runs grow exponentially. Merges first skip the parts of the runs that are
+     * already in place, and gallop (search exponentially) when one run keeps supplying elements.
+     * The sort is stable, runs in <tt>O(n lg n)</tt> time in the worst case and in <tt>O(n)</tt> time on inputs
+     * consisting of few runs.
+     *
+     * @param A   the array of elements to sort
+     * @param p   the index of the beginning of subarray in {@code A} being sorted
+     * @param r   the index of the end of subarray in {@code A} being sorted
+     * @param <E> the type of elements in {@code A}
+     */
+    public static <E extends Comparable<? super E>> void adaptiveMergeSort(Array<E> A, int p, int r) {
+        int n = r - p + 1;
+        if (n < 2) {
+            return;
+        }
+        RunMerger<E> merger = new RunMerger<>(A, n);
+        int minRun = minRunLength(n);
+        int low = p;
+        while (low <= r) {
+            int high = makeAscendingRun(A, low, r);
+            if (high - low + 1 < minRun) {
+                high = Math.min(low + minRun - 1, r);
+                insertionSort(A, low, high);
+            }
+            merger.pushRun(low, high - low + 1);
+            merger.mergeCollapse();
+            low = high + 1;
+        }
+        merger.mergeForceCollapse();
+    }
+
+    private static int minRunLength(int n) {
+        int lowBits = 0;
+        while (n >= ADAPTIVE_MERGE_SORT_MIN_MERGE) {
+            lowBits |= n & 1;
+            n >>= 1;
+        }
+        return n + lowBits;
+    }
+
+    private static <E extends Comparable<? super E>> int makeAscendingRun(Array<E> A, int low, int r) {
+        int high = low;
+        if (high == r) {
+            return high;
+        }
+        if (less(A.atUnchecked(high + 1), A.atUnchecked(high))) {
+            while (high < r && less(A.atUnchecked(high + 1), A.atUnchecked(high))) {
+                high++;
+            }
+            for (int i = low, j = high; i < j; i++, j--) {
+                A.exchUnchecked(i, j);
+            }
+        } else {
+            while (high < r && leq(A.atUnchecked(high), A.atUnchecked(high + 1))) {
+                high++;
+            }
+        }
+        return high;
+    }
+
+    private static final class RunMerger<E extends Comparable<? super E>> {
+
+        private final Array<E> A;
+        private final int n;
+        private Array<E> T;
+        private final int[] runBase = new int[64];
+        private final int[] runLength = new int[64];
+        private int runs;
+
+        RunMerger(Array<E> A, int n) {
+            this.A = A;
+            this.n = n;
+        }
+
+        void pushRun(int base, int length) {
+            runBase[runs] = base;
+            runLength[runs] = length;
+            runs++;
+        }
+
+        void mergeCollapse() {
+            while (runs > 1) {
+                int i = runs - 2;
+                if (i > 0 && runLength[i - 1] <= runLength[i] + runLength[i + 1]
+                        || i > 1 && runLength[i - 2] <= runLength[i - 1] + runLength[i]) {
+                    if (runLength[i - 1] < runLength[i + 1]) {
+                        i--;
+                    }
+                } else if (runLength[i] > runLength[i + 1]) {
+                    return;
+                }
+                mergeAt(i);
+            }
+        }
+
+        void mergeForceCollapse() {
+            while (runs > 1) {
+                int i = runs - 2;
+                if (i > 0 && runLength[i - 1] < runLength[i + 1]) {
+                    i--;
+                }
+                mergeAt(i);
+            }
+        }
+
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+            runLength[i] = length1 + length2;
+            if (i == runs - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            runs--;
+
+            int end1 = base1 + length1 - 1;
+            int start1 = gallopUpperBound(A, base1, end1, A.atUnchecked(base2));
+            if (start1 > end1) {
+                return;
+            }
+            int end2 = gallopLowerBoundFromRight(A, base2, base2 + length2 - 1, A.atUnchecked(end1)) - 1;
+            if (end2 < base2) {
+                return;
+            }
+            if (end1 - start1 <= end2 - base2) {
+                mergeLow(start1, end1, base2, end2);
+            } else {
+                mergeHigh(start1, end1, base2, end2);
+            }
+        }
+
+        private void ensureBuffer() {
+            if (T == null) {
+                T = Array.ofLength(n / 2 + 1);
+            }
+        }
+
+        private void mergeLow(int p1, int r1, int p2, int r2) {
+            ensureBuffer();
+            int length1 = r1 - p1 + 1;
+            for (int i = 1; i <= length1; i++) {
+                T.setUnchecked(i, A.atUnchecked(p1 + i - 1));
+            }
+            int i = 1;
+            int j = p2;
+            int k = p1;
+            int wins1 = 0;
+            int wins2 = 0;
+            while (i <= length1 && j <= r2) {
+                if (greater(T.atUnchecked(i), A.atUnchecked(j))) {
+                    A.setUnchecked(k++, A.atUnchecked(j++));
+                    wins1 = 0;
+                    if (++wins2 >= ADAPTIVE_MERGE_SORT_MIN_GALLOP) {
+                        int end = gallopLowerBound(A, j, r2, T.atUnchecked(i));
+                        while (j < end) {
+                            A.setUnchecked(k++, A.atUnchecked(j++));
+                        }
+                        wins2 = 0;
+                    }
+                } else {
+                    A.setUnchecked(k++, T.atUnchecked(i++));
+                    wins2 = 0;
+                    if (++wins1 >= ADAPTIVE_MERGE_SORT_MIN_GALLOP && j <= r2) {
+                        int end = gallopUpperBound(T, i, length1, A.atUnchecked(j));
+                        while (i < end) {
+                            A.setUnchecked(k++, T.atUnchecked(i++));
+                        }
+                        wins1 = 0;
+                    }
+                }
+            }
+            while (i <= length1) {
+                A.setUnchecked(k++, T.atUnchecked(i++));
+            }
+        }
+
+        private void mergeHigh(int p1, int r1, int p2, int r2) {
+            ensureBuffer();
+            int length2 = r2 - p2 + 1;
+            for (int j = 1; j <= length2; j++) {
+                T.setUnchecked(j, A.atUnchecked(p2 + j - 1));
+            }
+            int i = r1;
+            int j = length2;
+            int k = r2;
+            int wins1 = 0;
+            int wins2 = 0;
+            while (i >= p1 && j >= 1) {
+                if (greater(A.atUnchecked(i), T.atUnchecked(j))) {
+                    A.setUnchecked(k--, A.atUnchecked(i--));
+                    wins2 = 0;
+                    if (++wins1 >= ADAPTIVE_MERGE_SORT_MIN_GALLOP) {
+                        int start = gallopUpperBoundFromRight(A, p1, i, T.atUnchecked(j));
+                        while (i >= start) {
+                            A.setUnchecked(k--, A.atUnchecked(i--));
+                        }
+                        wins1 = 0;
+                    }
+                } else {
+                    A.setUnchecked(k--, T.atUnchecked(j--));
+                    wins1 = 0;
+                    if (++wins2 >= ADAPTIVE_MERGE_SORT_MIN_GALLOP && i >= p1) {
+                        int start = gallopLowerBoundFromRight(T, 1, j, A.atUnchecked(i));
+                        while (j >= start) {
+                            A.setUnchecked(k--, T.atUnchecked(j--));
+                        }
+                        wins2 = 0;
+                    }
+                }
+            }
+            while (j >= 1) {
+                A.setUnchecked(k--, T.atUnchecked(j--));
+            }
+        }
+    }
+
+    private static <E extends Comparable<? super E>> int gallopLowerBound(Array<E> T, int low, int high, E x) {
+        int offset = 1;
+        int i = low;
+        while (i <= high && less(T.atUnchecked(i), x)) {
+            low = i + 1;
+            offset <<= 1;
+            i = low + offset - 2;
+        }
+        return lowerBound(T, low, Math.min(i, high), x);
+    }
+
+    private static <E extends Comparable<? super E>> int gallopUpperBound(Array<E> T, int low, int high, E x) {
+        int offset = 1;
+        int i = low;
+        while (i <= high && leq(T.atUnchecked(i), x)) {
+            low = i + 1;
+            offset <<= 1;
+            i = low + offset - 2;
+        }
+        return upperBound(T, low, Math.min(i, high), x);
+    }
+
+    private static <E extends Comparable<? super E>> int gallopLowerBoundFromRight(Array<E> T, int low, int high, E x) {
+        int offset = 1;
+        int i = high;
+        while (i >= low && !less(T.atUnchecked(i), x)) {
+            high = i - 1;
+            offset <<= 1;
+            i = high - offset + 2;
+        }
+        return lowerBound(T, Math.max(i, low), high, x);
+    }
+
+    private static <E extends Comparable<? super E>> int gallopUpperBoundFromRight(Array<E> T, int low, int high, E x) {
+        int offset = 1;
+        int i = high;
+        while (i >= low && greater(T.atUnchecked(i), x)) {
+            high = i - 1;
+            offset <<= 1;
+            i = high - offset + 2;
+        }
+        return upperBound(T, Math.max(i, low), high, x);
+    }
+
     /**
      * Merges two sorted subarrays {@code A[p..q]} and {@code A[q + 1..r]} into one sorted array {@code A[p..r]}
      * without using sentinels.
@@ -252,6 +973,127 @@ public final class Chapter2 {
         return null;
     }
 
+    /**
+     * Searches for an element in a sorted array stored in the Eytzinger layout.
+     * <p>The search descends the implicit search tree from the root, moving to the left child if the element is
+     * less than or equal to the key in the current node and to the right child otherwise, without branching on the
+     * result of the comparison. The last node from which the search moved left holds the smallest key not less than
+     * {@code v}. For an array of distinct elements the result is the same as of the binary search.</p>
+     *
+     * @param A the array to scan
+     * @param v the element to find
+     * @return the smallest index {@code i} in the original sorted array such that {@code A[i] = v},
+     * or {@code null} if {@code v} does not appear in {@code A}
+     */
+    public static Integer eytzingerSearch(EytzingerArray A, int v) {
+        int n = A.length;
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (A.keyAt(k) < v ? 1 : 0);
+        }
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        if (k == 0 || A.keyAt(k) != v) {
+            return null;
+        }
+        return A.positionAt(k);
+    }
+
+    /**
+     * Searches for many elements in a sorted array at once.
+     * <p>The queries are sorted and then looked up in nondecreasing order, each search starting at the position
+     * found for the previous query and galloping forward, so that neighbouring queries share the probes near their
+     * positions and the array is scanned once from left to right.</p>
+     *
+     * @param A       the array to scan, sorted in nondecreasing order
+     * @param queries the elements to find
+     * @param <E>     the type of elements in {@code A}
+     * @return the array of indices such that its {@code j}th element is the smallest index {@code i} such that
+     * {@code A[i] = queries[j]}, or {@code null} if {@code queries[j]} does not appear in {@code A}
+     */
+    public static <E extends Comparable<? super E>> Array<Integer> batchBinarySearch(Array<E> A, Array<E> queries) {
+        int m = queries.length;
+        Array<Query<E>> sortedQueries = Array.ofLength(m);
+        for (int j = 1; j <= m; j++) {
+            sortedQueries.set(j, new Query<>(queries.at(j), j));
+        }
+        adaptiveMergeSort(sortedQueries, 1, m);
+        Array<Integer> positions = Array.ofLength(m);
+        int low = 1;
+        for (int j = 1; j <= m; j++) {
+            Query<E> query = sortedQueries.atUnchecked(j);
+            low = gallopLowerBound(A, low, A.length, query.key);
+            if (low <= A.length && leq(A.atUnchecked(low), query.key)) {
+                positions.set(query.index, low);
+            }
+        }
+        return positions;
+    }
+
+    private static final class Query<E extends Comparable<? super E>> implements Comparable<Query<E>> {
+
+        private final E key;
+        private final int index;
+
+        private Query(E key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+
+        @Override
+        public int compareTo(Query<E> other) {
+            return key.compareTo(other.key);
+        }
+
+    }
+
+    /**
+     * The number of searches that {@link #eytzingerSearchAll(EytzingerArray, IntArray)} performs simultaneously.
+     */
+    public static final int EYTZINGER_SEARCH_BATCH_SIZE = 16;
+
+    /**
+     * Searches for many elements in a sorted array stored in the Eytzinger layout at once.
+     * <p>The searches are performed in groups of {@link #EYTZINGER_SEARCH_BATCH_SIZE}, which descend the search tree
+     * simultaneously, one level at a time. The loads of a single level are independent of each other, so their cache
+     * misses overlap instead of following one another as in a single search.</p>
+     *
+     * @param A       the array to scan
+     * @param queries the elements to find
+     * @return the array of indices such that its {@code j}th element is the smallest index {@code i} in the original
+     * sorted array such that {@code A[i] = queries[j]}, or {@code 0} if {@code queries[j]} does not appear in {@code A}
+     */
+    public static IntArray eytzingerSearchAll(EytzingerArray A, IntArray queries) {
+        int n = A.length;
+        int m = queries.length;
+        IntArray positions = IntArray.ofLength(m);
+        int completeLevels = 31 - Integer.numberOfLeadingZeros(n + 1);
+        int[] k = new int[EYTZINGER_SEARCH_BATCH_SIZE];
+        int[] v = new int[EYTZINGER_SEARCH_BATCH_SIZE];
+        for (int b = 1; b <= m; b += EYTZINGER_SEARCH_BATCH_SIZE) {
+            int size = Math.min(EYTZINGER_SEARCH_BATCH_SIZE, m - b + 1);
+            for (int i = 0; i <= size - 1; i++) {
+                k[i] = 1;
+                v[i] = queries.atUnchecked(b + i);
+            }
+            for (int level = 1; level <= completeLevels; level++) {
+                for (int i = 0; i <= size - 1; i++) {
+                    k[i] = 2 * k[i] + (A.keyAt(k[i]) < v[i] ? 1 : 0);
+                }
+            }
+            for (int i = 0; i <= size - 1; i++) {
+                int node = k[i];
+                if (node <= n) {
+                    node = 2 * node + (A.keyAt(node) < v[i] ? 1 : 0);
+                }
+                node >>>= Integer.numberOfTrailingZeros(~node) + 1;
+                if (node != 0 && A.keyAt(node) == v[i]) {
+                    positions.setUnchecked(b + i, A.positionAt(node));
+                }
+            }
+        }
+        return positions;
+    }
+
     /**
      * Searches for a sum of two elements in a set.
      * <p><span style="font-variant:small-caps;">Sum-Search</span> from solution to exercise 2.3-7.</p>
@@ -306,6 +1148,130 @@ public final class Chapter2 {
         return y;
     }
 
+    /**
+     * Evaluates the value of a polynomial for a given argument using Horner's rule
+     * - a version for arrays of primitive values.
+     * <p>Problem 2-3.</p>
+     *
+     * @param A the array containing coefficients of the polynomial from the least to the most significant,
+     *          such that {@code A[i]} is the coefficient of <tt>x<sup>i - 1</sup></tt>
+     * @param x the argument
+     * @return the value of the polynomial at {@code x}
+     */
+    public static double horner(DoubleArray A, double x) {
+        double y = 0.0;
+        int i = A.length;
+        while (i >= 1) {
+            y = A.at(i) + x * y;
+            i--;
+        }
+        return y;
+    }
+
+    /**
+     * Evaluates the values of a polynomial for many arguments using Horner's rule.
+     * <p>The arguments are processed in groups of eight, whose Horner's chains are evaluated in a single loop over
+     * the coefficients. The chains do not depend on each other, so the processor overlaps their multiplications and
+     * additions. Every value is computed by the same operations in the same order as by
+     * {@link #horner(DoubleArray, double)}, so the results are equal.</p>
+     *
+     * @param A the array containing coefficients of the polynomial from the least to the most significant,
+     *          such that {@code A[i]} is the coefficient of <tt>x<sup>i - 1</sup></tt>
+     * @param X the array of arguments
+     * @return the array of values of the polynomial such that its {@code j}th element is the value at {@code X[j]}
+     */
+    public static DoubleArray horner(DoubleArray A, DoubleArray X) {
+        DoubleArray Y = DoubleArray.ofLength(X.length);
+        hornerInterleaved(A, X, Y, 1, X.length);
+        return Y;
+    }
+
+    private static void hornerInterleaved(DoubleArray A, DoubleArray X, DoubleArray Y, int p, int r) {
+        int n = A.length;
+        int j = p;
+        while (j + 7 <= r) {
+            double x0 = X.atUnchecked(j);
+            double x1 = X.atUnchecked(j + 1);
+            double x2 = X.atUnchecked(j + 2);
+            double x3 = X.atUnchecked(j + 3);
+            double x4 = X.atUnchecked(j + 4);
+            double x5 = X.atUnchecked(j + 5);
+            double x6 = X.atUnchecked(j + 6);
+            double x7 = X.atUnchecked(j + 7);
+            double y0 = 0.0;
+            double y1 = 0.0;
+            double y2 = 0.0;
+            double y3 = 0.0;
+            double y4 = 0.0;
+            double y5 = 0.0;
+            double y6 = 0.0;
+            double y7 = 0.0;
+            for (int i = n; i >= 1; i--) {
+                double a = A.atUnchecked(i);
+                y0 = a + x0 * y0;
+                y1 = a + x1 * y1;
+                y2 = a + x2 * y2;
+                y3 = a + x3 * y3;
+                y4 = a + x4 * y4;
+                y5 = a + x5 * y5;
+                y6 = a + x6 * y6;
+                y7 = a + x7 * y7;
+            }
+            Y.setUnchecked(j, y0);
+            Y.setUnchecked(j + 1, y1);
+            Y.setUnchecked(j + 2, y2);
+            Y.setUnchecked(j + 3, y3);
+            Y.setUnchecked(j + 4, y4);
+            Y.setUnchecked(j + 5, y5);
+            Y.setUnchecked(j + 6, y6);
+            Y.setUnchecked(j + 7, y7);
+            j += 8;
+        }
+        while (j <= r) {
+            Y.setUnchecked(j, horner(A, X.atUnchecked(j)));
+            j++;
+        }
+    }
+
+    /**
+     * The default number of arguments that {@link #parallelHorner(DoubleArray, DoubleArray)} handles in a single task.
+     */
+    public static final int PARALLEL_HORNER_THRESHOLD = 16384;
+
+    /**
+     * Evaluates the values of a polynomial for many arguments using Horner's rule, in parallel with the fork-join
+     * framework. Blocks of {@link #PARALLEL_HORNER_THRESHOLD} arguments are handled in parallel tasks.
+     *
+     * @param A the array containing coefficients of the polynomial from the least to the most significant,
+     *          such that {@code A[i]} is the coefficient of <tt>x<sup>i - 1</sup></tt>
+     * @param X the array of arguments
+     * @return the array of values of the polynomial such that its {@code j}th element is the value at {@code X[j]}
+     */
+    public static DoubleArray parallelHorner(DoubleArray A, DoubleArray X) {
+        return parallelHorner(A, X, PARALLEL_HORNER_THRESHOLD);
+    }
+
+    /**
+     * Evaluates the values of a polynomial for many arguments using Horner's rule, in parallel with the fork-join
+     * framework. The arguments are split into blocks of {@code threshold} arguments, which are evaluated in parallel
+     * tasks as in {@link #horner(DoubleArray, DoubleArray)}.
+     *
+     * @param A         the array containing coefficients of the polynomial from the least to the most significant,
+     *                  such that {@code A[i]} is the coefficient of <tt>x<sup>i - 1</sup></tt>
+     * @param X         the array of arguments
+     * @param threshold the number of arguments that are handled in a single task
+     * @return the array of values of the polynomial such that its {@code j}th element is the value at {@code X[j]}
+     */
+    public static DoubleArray parallelHorner(DoubleArray A, DoubleArray X, int threshold) {
+        int m = X.length;
+        DoubleArray Y = DoubleArray.ofLength(m);
+        int blocks = ceil(m, threshold);
+        if (blocks > 0) {
+            forEachChunk(blocks, t -> hornerInterleaved(A, X, Y, t * threshold + 1, Math.min(m, (t + 1) * threshold)));
+        }
+        return Y;
+    }
+
     /**
      * Evaluates the value of a polynomial for a given argument using the naive method.
      * <p>Solution to problem 2-3(b).</p>
@@ -386,4 +1352,196 @@ public final class Chapter2 {
         return inversions;
     }
 
+    /**
+     * The default length of subarrays that {@link #parallelCountInversions(Array, int, int)} handles in a single task.
+     */
+    public static final int PARALLEL_COUNT_INVERSIONS_THRESHOLD = 8192;
+
+    /**
+     * Counts inversions in an array using merge sort parallelized with the fork-join framework.
+     * Subarrays longer than {@link #PARALLEL_COUNT_INVERSIONS_THRESHOLD} are handled in parallel tasks.
+     *
+     * @param A   the array of elements to count inversions in
+     * @param p   the index of the beginning of subarray in {@code A} that inversions are being counted in
+     * @param r   the index of the end of subarray in {@code A} that inversions are being counted in
+     * @param <E> the type of elements in {@code A}
+     * @return the number of inversions in {@code A}
+     */
+    public static <E extends Comparable<? super E>> long parallelCountInversions(Array<E> A, int p, int r) {
+        return parallelCountInversions(A, p, r, PARALLEL_COUNT_INVERSIONS_THRESHOLD);
+    }
+
+    /**
+     * Counts inversions in an array using merge sort parallelized with the fork-join framework.
+     * <p>Subarrays longer than {@code threshold} are sorted in parallel tasks and merged by parallel merges, and all
+     * merges share a single auxiliary array. Short runs are sorted using insertion sort, which counts an inversion
+     * with every shift. A parallel merge splits both subarrays around a single element, and all pairs of elements
+     * moved past each other by the split are inversions, so they are counted without being compared.
+     * The subarray {@code A[p..r]} is sorted afterwards.</p>
+     *
+     * @param A         the array of elements to count inversions in
+     * @param p         the index of the beginning of subarray in {@code A} that inversions are being counted in
+     * @param r         the index of the end of subarray in {@code A} that inversions are being counted in
+     * @param threshold the length of subarrays that are handled in a single task
+     * @param <E>       the type of elements in {@code A}
+     * @return the number of inversions in {@code A}
+     */
+    public static <E extends Comparable<? super E>> long parallelCountInversions(Array<E> A, int p, int r, int threshold) {
+        if (p >= r) {
+            return 0;
+        }
+        Array<E> B = Array.ofLength(A.length);
+        return ForkJoinPool.commonPool().invoke(new InversionCountTask<>(A, B, p, r, threshold));
+    }
+
+    private static final class InversionCountTask<E extends Comparable<? super E>> extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Array<E> A;
+        private final Array<E> B;
+        private final int p;
+        private final int r;
+        private final int threshold;
+
+        InversionCountTask(Array<E> A, Array<E> B, int p, int r, int threshold) {
+            this.A = A;
+            this.B = B;
+            this.p = p;
+            this.r = r;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            if (r - p + 1 <= threshold) {
+                return countInversionsUsingBuffer(A, B, p, r);
+            }
+            int q = (p + r) / 2;
+            InversionCountTask<E> left = new InversionCountTask<>(A, B, p, q, threshold);
+            InversionCountTask<E> right = new InversionCountTask<>(A, B, q + 1, r, threshold);
+            invokeAll(left, right);
+            long inversions = left.join() + right.join();
+            if (leq(A.atUnchecked(q), A.atUnchecked(q + 1))) {
+                return inversions;
+            }
+            copy(A, B, p, r);
+            return inversions + new InversionMergeTask<>(B, p, q, q + 1, r, A, p, threshold).compute();
+        }
+    }
+
+    private static final class InversionMergeTask<E extends Comparable<? super E>> extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Array<E> T;
+        private final int p1;
+        private final int r1;
+        private final int p2;
+        private final int r2;
+        private final Array<E> A;
+        private final int p3;
+        private final int threshold;
+
+        InversionMergeTask(Array<E> T, int p1, int r1, int p2, int r2, Array<E> A, int p3, int threshold) {
+            this.T = T;
+            this.p1 = p1;
+            this.r1 = r1;
+            this.p2 = p2;
+            this.r2 = r2;
+            this.A = A;
+            this.p3 = p3;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            int n1 = r1 - p1 + 1;
+            int n2 = r2 - p2 + 1;
+            if (n1 + n2 <= threshold || n1 == 0 || n2 == 0) {
+                return mergeInversionsFromBuffer(T, p1, r1, p2, r2, A, p3);
+            }
+            int q1, q2;
+            long inversions;
+            InversionMergeTask<E> left, right;
+            if (n1 >= n2) {
+                q1 = (p1 + r1) / 2;
+                q2 = lowerBound(T, p2, r2, T.atUnchecked(q1));
+                int q3 = p3 + (q1 - p1) + (q2 - p2);
+                A.setUnchecked(q3, T.atUnchecked(q1));
+                inversions = (long) (r1 - q1 + 1) * (q2 - p2);
+                left = new InversionMergeTask<>(T, p1, q1 - 1, p2, q2 - 1, A, p3, threshold);
+                right = new InversionMergeTask<>(T, q1 + 1, r1, q2, r2, A, q3 + 1, threshold);
+            } else {
+                q2 = (p2 + r2) / 2;
+                q1 = upperBound(T, p1, r1, T.atUnchecked(q2));
+                int q3 = p3 + (q1 - p1) + (q2 - p2);
+                A.setUnchecked(q3, T.atUnchecked(q2));
+                inversions = (long) (r1 - q1 + 1) * (q2 - p2 + 1);
+                left = new InversionMergeTask<>(T, p1, q1 - 1, p2, q2 - 1, A, p3, threshold);
+                right = new InversionMergeTask<>(T, q1, r1, q2 + 1, r2, A, q3 + 1, threshold);
+            }
+            invokeAll(left, right);
+            return inversions + left.join() + right.join();
+        }
+    }
+
+    private static <E extends Comparable<? super E>> long countInversionsUsingBuffer(Array<E> A, Array<E> B, int p, int r) {
+        if (r - p + 1 <= MERGE_SORT_INSERTION_SORT_THRESHOLD) {
+            return insertionSortCountingInversions(A, p, r);
+        }
+        int q = (p + r) / 2;
+        long inversions = countInversionsUsingBuffer(A, B, p, q) + countInversionsUsingBuffer(A, B, q + 1, r);
+        if (greater(A.atUnchecked(q), A.atUnchecked(q + 1))) {
+            copy(A, B, p, r);
+            inversions += mergeInversionsFromBuffer(B, p, q, q + 1, r, A, p);
+        }
+        return inversions;
+    }
+
+    private static <E extends Comparable<? super E>> long insertionSortCountingInversions(Array<E> A, int p, int r) {
+        long inversions = 0;
+        for (int j = p + 1; j <= r; j++) {
+            E key = A.atUnchecked(j);
+            int i = j - 1;
+            while (i >= p && greater(A.atUnchecked(i), key)) {
+                A.setUnchecked(i + 1, A.atUnchecked(i));
+                i--;
+            }
+            inversions += j - 1 - i;
+            A.setUnchecked(i + 1, key);
+        }
+        return inversions;
+    }
+
+    private static <E extends Comparable<? super E>> long mergeInversionsFromBuffer(
+            Array<E> T, int p1, int r1, int p2, int r2, Array<E> A, int p3) {
+        int i = p1;
+        int j = p2;
+        int k = p3;
+        long inversions = 0;
+        while (i <= r1 && j <= r2) {
+            if (leq(T.atUnchecked(i), T.atUnchecked(j))) {
+                A.setUnchecked(k, T.atUnchecked(i));
+                i++;
+            } else {
+                A.setUnchecked(k, T.atUnchecked(j));
+                j++;
+                inversions += r1 - i + 1;
+            }
+            k++;
+        }
+        while (i <= r1) {
+            A.setUnchecked(k, T.atUnchecked(i));
+            i++;
+            k++;
+        }
+        while (j <= r2) {
+            A.setUnchecked(k, T.atUnchecked(j));
+            j++;
+            k++;
+        }
+        return inversions;
+    }
+
 }
@@ -1,6 +1,7 @@
 package pl.kwojtas.cormenimpl;
 
 import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
 
 /**
  * Implements algorithms from Chapter 4.
@@ -59,6 +60,55 @@ public final class Chapter4 {
         return A.at(i) & (1 << j);
     }
 
+    /**
+     * Searches for the missing integer in an array - a version for arrays of primitive values.
+     * <p>Solution to problem 4-2.</p>
+     *
+     * @param A the {@code n}-element array containing all integers from {@code 0..n} but one
+     * @return the missing integer in {@code A}
+     */
+    public static int findMissingInteger(IntArray A) {
+        int n = A.length;
+        IntArray positionsOfNumbers = IntArray.ofLength(n);
+        for (int i = 1; i <= n; i++) {
+            positionsOfNumbers.set(i, i);
+        }
+        int missingInteger = 0;
+        int j = 0;
+        while (n > 0) {
+            IntArray positionsOfNumbersWithBit0 = IntArray.ofLength(n / 2);
+            IntArray positionsOfNumbersWithBit1 = IntArray.ofLength((n - 1) / 2);
+            int zerosFound = 0;
+            int onesFound = 0;
+            for (int i = 1; i <= n; i++) {
+                if (getBit(j, A, positionsOfNumbers.at(i)) == 0) {
+                    zerosFound++;
+                    if (zerosFound <= positionsOfNumbersWithBit0.length) {
+                        positionsOfNumbersWithBit0.set(zerosFound, positionsOfNumbers.at(i));
+                    }
+                } else {
+                    onesFound++;
+                    if (onesFound <= positionsOfNumbersWithBit1.length) {
+                        positionsOfNumbersWithBit1.set(onesFound, positionsOfNumbers.at(i));
+                    }
+                }
+            }
+            if (zerosFound == n / 2 + 1) {
+                positionsOfNumbers = positionsOfNumbersWithBit1;
+                missingInteger |= (1 << j);
+            } else {
+                positionsOfNumbers = positionsOfNumbersWithBit0;
+            }
+            j++;
+            n = positionsOfNumbers.length;
+        }
+        return missingInteger;
+    }
+
+    private static int getBit(int j, IntArray A, int i) {
+        return A.at(i) & (1 << j);
+    }
+
     /**
      * Returns the leftmost minimum indices in each row of a Monge array.
      * <p>Solution to problem 4-7(d).</p>
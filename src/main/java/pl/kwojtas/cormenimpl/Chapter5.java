@@ -1,38 +1,45 @@
 package pl.kwojtas.cormenimpl;
 
 import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.DoubleArray;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
+import pl.kwojtas.cormenimpl.datastructure.LongArray;
+import pl.kwojtas.cormenimpl.datastructure.Reservoir;
 
-import java.util.Random;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static pl.kwojtas.cormenimpl.Fundamental.ceil;
 
 /**
  * Implements algorithms from Chapter 5.
  */
 public final class Chapter5 {
 
-    private static final Random RANDOM = new Random(System.currentTimeMillis());
-    private static final double UNFAIR_COIN_PROBABILITY = RANDOM.nextDouble();
+    private static final double UNFAIR_COIN_PROBABILITY = Randomness.current().nextDouble();
 
     private Chapter5() {
     }
 
     /**
      * Returns random number from interval {@code a..b}.
+     * The number is formed of <tt>&lceil;lg(b - a + 1)&rceil;</tt> random bits, which are drawn from the source of the current
+     * thread until the number falls into the interval, so that all numbers from the interval are equally likely.
      * <p><span style="font-variant:small-caps;">Random</span> from solution to exercise 5.1-2.</p>
      *
      * @param a the lower bound of the interval
      * @param b the upper bound of the interval
      * @return random number from {@code a..b}
+     * @see Randomness#current()
      */
     public static int random(int a, int b) {
-        while (a < b) {
-            int mid = (a + b) / 2;
-            if (Fundamental.random() == 0) {
-                a = mid + 1;
-            } else {
-                b = mid;
-            }
-        }
-        return a;
+        return Randomness.current().nextInt(a, b);
     }
 
     /**
@@ -57,7 +64,7 @@ public final class Chapter5 {
      * @return {@code 0} with probability {@code 1 - p} and {@code 1} with probability {@code p}
      */
     static int biasedRandom() {
-        return RANDOM.nextDouble() <= UNFAIR_COIN_PROBABILITY ? 1 : 0;
+        return Randomness.current().nextDouble() <= UNFAIR_COIN_PROBABILITY ? 1 : 0;
     }
 
     /**
@@ -119,6 +126,80 @@ public final class Chapter5 {
         }
     }
 
+    /**
+     * Permutes an array by sorting it in linear time.
+     * The priorities are random 64-bit numbers stored in a primitive array, so that all priorities are distinct with
+     * probability at least <tt>1 - n<sup>2</sup>/2<sup>65</sup></tt>. The priorities are sorted together with
+     * the positions of elements using radix sort on binary digits of {@link Chapter8#BINARY_RADIX_SORT_DIGIT_BITS} bits,
+     * and then the elements are gathered in the order of sorted positions in a single pass.
+     * <p><span style="font-variant:small-caps;">Permute-By-Sorting</span> from subchapter 5.3, with radix sort from
+     * subchapter 8.3.</p>
+     *
+     * @param A   the array of elements to permute
+     * @param <E> the type of elements in {@code A}
+     * @return a permutation of {@code A}
+     */
+    public static <E> Array<E> permuteByRadixSorting(Array<E> A) {
+        int n = A.length;
+        if (n <= 1) {
+            return A;
+        }
+        Randomness.Source source = Randomness.current();
+        LongArray P = LongArray.ofLength(n);
+        IntArray positions = IntArray.ofLength(n);
+        for (int i = 1; i <= n; i++) {
+            P.setUnchecked(i, source.nextLong());
+            positions.setUnchecked(i, i);
+        }
+        IntArray sortedPositions = radixSortUsingExternalKeys(positions, P);
+        Array<E> elements = Array.copyOf(A);
+        for (int i = 1; i <= n; i++) {
+            A.setUnchecked(i, elements.atUnchecked(sortedPositions.atUnchecked(i)));
+        }
+        return A;
+    }
+
+    private static IntArray radixSortUsingExternalKeys(IntArray A, LongArray keys) {
+        int n = A.length;
+        int r = Chapter8.BINARY_RADIX_SORT_DIGIT_BITS;
+        int passes = ceil(Long.SIZE, r);
+        int mask = (1 << r) - 1;
+        int[][] C = new int[passes][1 << r];
+        for (int j = 1; j <= n; j++) {
+            long key = keys.atUnchecked(j);
+            for (int pass = 0; pass < passes; pass++) {
+                C[pass][(int) (key >>> (pass * r)) & mask]++;
+            }
+        }
+        IntArray from = A;
+        LongArray fromKeys = keys;
+        IntArray to = IntArray.ofLength(n);
+        LongArray toKeys = LongArray.ofLength(n);
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * r;
+            int[] next = C[pass];
+            int position = 1;
+            for (int i = 0; i <= mask; i++) {
+                int count = next[i];
+                next[i] = position;
+                position += count;
+            }
+            for (int j = 1; j <= n; j++) {
+                long key = fromKeys.atUnchecked(j);
+                int k = next[(int) (key >>> shift) & mask]++;
+                to.setUnchecked(k, from.atUnchecked(j));
+                toKeys.setUnchecked(k, key);
+            }
+            IntArray swap = from;
+            from = to;
+            to = swap;
+            LongArray swapKeys = fromKeys;
+            fromKeys = toKeys;
+            toKeys = swapKeys;
+        }
+        return from;
+    }
+
     /**
      * Permutes an array in place.
      * <p><span style="font-variant:small-caps;">Randomize-In-Place</span> from subchapter 5.3.</p>
@@ -148,6 +229,170 @@ public final class Chapter5 {
         }
     }
 
+    /**
+     * The minimum length of subarrays that {@link #parallelRandomizeInPlace(Array)},
+     * {@link #parallelRandomizeInPlace(IntArray)} and {@link #parallelRandomizeInPlace(DoubleArray)}
+     * permute in a single task.
+     */
+    public static final int PARALLEL_RANDOMIZE_IN_PLACE_THRESHOLD = 65536;
+
+    /**
+     * Permutes an array in place using MergeShuffle parallelized with the fork-join framework.
+     * The array is divided in halves recursively, the halves are permuted in parallel, and then they are merged
+     * by repeatedly choosing at random whether the next element comes from the first or from the second half.
+     * When one half runs out, each of the remaining elements is exchanged with an element chosen at random from those
+     * before it, as in <span style="font-variant:small-caps;">Randomize-In-Place</span>. All permutations remain
+     * equally likely, the array is not copied and a merge consumes about one random bit per element.
+     * Every merge adds a pass over the array, so the array is divided into at most as many subarrays as there are
+     * threads in the common fork-join pool, but not into subarrays shorter than
+     * {@link #PARALLEL_RANDOMIZE_IN_PLACE_THRESHOLD}, and the subarrays are permuted sequentially.
+     *
+     * @param A   the array of elements to permute
+     * @param <E> the type of elements in {@code A}
+     */
+    public static <E> void parallelRandomizeInPlace(Array<E> A) {
+        parallelRandomizeInPlace(A, defaultRandomizeInPlaceThreshold(A.length));
+    }
+
+    /**
+     * Permutes an array in place using MergeShuffle parallelized with the fork-join framework.
+     *
+     * @param A         the array of elements to permute
+     * @param threshold the length of subarrays that are permuted in a single task
+     * @param <E>       the type of elements in {@code A}
+     * @see #parallelRandomizeInPlace(Array)
+     */
+    public static <E> void parallelRandomizeInPlace(Array<E> A, int threshold) {
+        if (A.length > 1) {
+            ForkJoinPool.commonPool().invoke(new MergeShuffleTask(A::exchUnchecked, 1, A.length, threshold));
+        }
+    }
+
+    /**
+     * Permutes an array in place using MergeShuffle parallelized with the fork-join framework -
+     * a version for arrays of primitive values.
+     *
+     * @param A the array of elements to permute
+     * @see #parallelRandomizeInPlace(Array)
+     */
+    public static void parallelRandomizeInPlace(IntArray A) {
+        parallelRandomizeInPlace(A, defaultRandomizeInPlaceThreshold(A.length));
+    }
+
+    /**
+     * Permutes an array in place using MergeShuffle parallelized with the fork-join framework -
+     * a version for arrays of primitive values.
+     *
+     * @param A         the array of elements to permute
+     * @param threshold the length of subarrays that are permuted in a single task
+     * @see #parallelRandomizeInPlace(Array)
+     */
+    public static void parallelRandomizeInPlace(IntArray A, int threshold) {
+        if (A.length > 1) {
+            ForkJoinPool.commonPool().invoke(new MergeShuffleTask(A::exchUnchecked, 1, A.length, threshold));
+        }
+    }
+
+    /**
+     * Permutes an array in place using MergeShuffle parallelized with the fork-join framework -
+     * a version for arrays of primitive values.
+     *
+     * @param A the array of elements to permute
+     * @see #parallelRandomizeInPlace(Array)
+     */
+    public static void parallelRandomizeInPlace(DoubleArray A) {
+        parallelRandomizeInPlace(A, defaultRandomizeInPlaceThreshold(A.length));
+    }
+
+    /**
+     * Permutes an array in place using MergeShuffle parallelized with the fork-join framework -
+     * a version for arrays of primitive values.
+     *
+     * @param A         the array of elements to permute
+     * @param threshold the length of subarrays that are permuted in a single task
+     * @see #parallelRandomizeInPlace(Array)
+     */
+    public static void parallelRandomizeInPlace(DoubleArray A, int threshold) {
+        if (A.length > 1) {
+            ForkJoinPool.commonPool().invoke(new MergeShuffleTask(A::exchUnchecked, 1, A.length, threshold));
+        }
+    }
+
+    private static int defaultRandomizeInPlaceThreshold(int n) {
+        return Math.max(PARALLEL_RANDOMIZE_IN_PLACE_THRESHOLD, ceil(n, ForkJoinPool.getCommonPoolParallelism()));
+    }
+
+    @FunctionalInterface
+    private interface Exchange {
+        void exch(int position1, int position2);
+    }
+
+    private static final class MergeShuffleTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Exchange A;
+        private final int p;
+        private final int r;
+        private final int threshold;
+
+        MergeShuffleTask(Exchange A, int p, int r, int threshold) {
+            this.A = A;
+            this.p = p;
+            this.r = r;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (r - p < threshold) {
+                randomizeInPlace(A, p, r, Randomness.current());
+                return;
+            }
+            int q = (p + r) >>> 1;
+            invokeAll(new MergeShuffleTask(A, p, q, threshold), new MergeShuffleTask(A, q + 1, r, threshold));
+            mergeShuffled(A, p, q, r, Randomness.current());
+        }
+
+    }
+
+    private static void randomizeInPlace(Exchange A, int p, int r, Randomness.Source source) {
+        for (int i = r; i > p; i--) {
+            A.exch(i, source.nextInt(p, i));
+        }
+    }
+
+    private static void mergeShuffled(Exchange A, int p, int q, int r, Randomness.Source source) {
+        int i = p;
+        int j = q + 1;
+        long bits = 0;
+        int availableBits = 0;
+        while (true) {
+            if (availableBits == 0) {
+                bits = source.nextLong();
+                availableBits = Long.SIZE;
+            }
+            boolean fromSecondHalf = (bits & 1) != 0;
+            bits >>>= 1;
+            availableBits--;
+            if (!fromSecondHalf) {
+                if (i == j) {
+                    break;
+                }
+            } else {
+                if (j > r) {
+                    break;
+                }
+                A.exch(i, j);
+                j++;
+            }
+            i++;
+        }
+        for (; i <= r; i++) {
+            A.exch(i, source.nextInt(p, i));
+        }
+    }
+
     /**
      * Permutes an array uniformly by sorting.
      * <p>Solution to exercise 5.3-6.</p>
@@ -236,4 +481,313 @@ public final class Chapter5 {
         return null;
     }
 
+    /**
+     * Samples uniformly at random {@code k} items of a stream of unknown length using Algorithm L.
+     * Each of the first {@code k} items gets a random key, exponentially distributed with rate {@code 1}, and enters
+     * the reservoir. Then the number of items passed before the next item enters the reservoir is drawn at once
+     * from the geometric distribution determined by the largest key in the reservoir, so the passed items need no
+     * random draws, and in expectation only <tt>O(k(1 + lg(n/k)))</tt> of {@code n} items enter the reservoir. An item
+     * that enters gets a key drawn from below the largest key and replaces the item with the largest key.
+     *
+     * @param items the iterator over the stream of items
+     * @param k     the number of items to sample
+     * @param <E>   the type of items
+     * @return the reservoir holding {@code min(k, n)} items, each {@code k}-element subset of items being equally likely
+     */
+    public static <E> Reservoir<E> reservoirSample(Iterator<? extends E> items, int k) {
+        Reservoir<E> R = new Reservoir<>(k);
+        reservoirSample(R, items, items::next);
+        return R;
+    }
+
+    /**
+     * Samples uniformly at random items of a stream using Algorithm L, continuing the sampling that resulted in
+     * a reservoir, so that the reservoir becomes a sample of all items sampled into it so far.
+     *
+     * @param R     the reservoir
+     * @param items the iterator over the next items of the stream
+     * @param <E>   the type of items
+     * @see #reservoirSample(Iterator, int)
+     */
+    public static <E> void reservoirSample(Reservoir<E> R, Iterator<? extends E> items) {
+        reservoirSample(R, items, items::next);
+    }
+
+    /**
+     * Samples uniformly at random {@code k} items of a stream of unknown length using Algorithm L -
+     * a version for streams of primitive values, which boxes only the items entering the reservoir.
+     *
+     * @param items the stream of items
+     * @param k     the number of items to sample
+     * @return the reservoir holding {@code min(k, n)} items
+     * @see #reservoirSample(Iterator, int)
+     */
+    public static Reservoir<Integer> reservoirSample(IntStream items, int k) {
+        Reservoir<Integer> R = new Reservoir<>(k);
+        PrimitiveIterator.OfInt iterator = items.iterator();
+        reservoirSample(R, iterator, iterator::nextInt);
+        return R;
+    }
+
+    /**
+     * Samples uniformly at random {@code k} items of a stream of unknown length using Algorithm L -
+     * a version for streams of primitive values, which boxes only the items entering the reservoir.
+     *
+     * @param items the stream of items
+     * @param k     the number of items to sample
+     * @return the reservoir holding {@code min(k, n)} items
+     * @see #reservoirSample(Iterator, int)
+     */
+    public static Reservoir<Long> reservoirSample(LongStream items, int k) {
+        Reservoir<Long> R = new Reservoir<>(k);
+        PrimitiveIterator.OfLong iterator = items.iterator();
+        reservoirSample(R, iterator, iterator::nextLong);
+        return R;
+    }
+
+    /**
+     * Samples uniformly at random {@code k} items of a stream of unknown length using Algorithm L -
+     * a version for streams of primitive values, which boxes only the items entering the reservoir.
+     *
+     * @param items the stream of items
+     * @param k     the number of items to sample
+     * @return the reservoir holding {@code min(k, n)} items
+     * @see #reservoirSample(Iterator, int)
+     */
+    public static Reservoir<Double> reservoirSample(DoubleStream items, int k) {
+        Reservoir<Double> R = new Reservoir<>(k);
+        PrimitiveIterator.OfDouble iterator = items.iterator();
+        reservoirSample(R, iterator, iterator::nextDouble);
+        return R;
+    }
+
+    private static <E> void reservoirSample(Reservoir<E> R, Iterator<? extends E> items, Runnable passItem) {
+        int k = R.getCapacity();
+        if (k == 0) {
+            return;
+        }
+        Randomness.Source source = Randomness.current();
+        while (R.size < k && items.hasNext()) {
+            insertIntoReservoir(R, items.next(), exponential(source), source);
+        }
+        while (items.hasNext()) {
+            if (R.jump >= 1.0) {
+                passItem.run();
+                R.jump -= 1.0;
+            } else {
+                replaceInReservoir(R, items.next(), 1.0, source);
+            }
+        }
+    }
+
+    /**
+     * Samples {@code k} items of a stream of unknown length with probabilities proportional to their weights,
+     * using reservoir sampling with exponential jumps (A-ExpJ).
+     * Each item gets a random key, exponentially distributed with the rate equal to the item's weight, and the items
+     * with the {@code k} smallest keys are sampled, so that items are picked one by one as if without replacement,
+     * each with probability proportional to its weight among the remaining items. Once the reservoir is full,
+     * the total weight of items passed before the next item enters the reservoir is drawn at once, so the passed items
+     * need no random draws. Items of weight {@code 0} are never sampled.
+     *
+     * @param items  the iterator over the stream of items
+     * @param weight the function returning the weight of an item
+     * @param k      the number of items to sample
+     * @param <E>    the type of items
+     * @return the reservoir holding {@code k} items, or all items of positive weight if there are fewer of them
+     * @throws IllegalStateException if any weight is negative
+     */
+    public static <E> Reservoir<E> weightedReservoirSample(Iterator<? extends E> items, ToDoubleFunction<? super E> weight, int k) {
+        Reservoir<E> R = new Reservoir<>(k);
+        weightedReservoirSample(R, items, weight);
+        return R;
+    }
+
+    /**
+     * Samples items of a stream with probabilities proportional to their weights using A-ExpJ, continuing the sampling
+     * that resulted in a reservoir, so that the reservoir becomes a sample of all items sampled into it so far.
+     *
+     * @param R      the reservoir
+     * @param items  the iterator over the next items of the stream
+     * @param weight the function returning the weight of an item
+     * @param <E>    the type of items
+     * @throws IllegalStateException if any weight is negative
+     * @see #weightedReservoirSample(Iterator, ToDoubleFunction, int)
+     */
+    public static <E> void weightedReservoirSample(Reservoir<E> R, Iterator<? extends E> items, ToDoubleFunction<? super E> weight) {
+        weightedReservoirSample(R, new WeightedItems<E>() {
+            private E item;
+
+            @Override
+            public boolean hasNext() {
+                return items.hasNext();
+            }
+
+            @Override
+            public double nextWeight() {
+                item = items.next();
+                return weight.applyAsDouble(item);
+            }
+
+            @Override
+            public E item() {
+                return item;
+            }
+        });
+    }
+
+    /**
+     * Samples {@code k} positions of a stream of weights of unknown length with probabilities proportional to
+     * the weights using A-ExpJ - a version for streams of primitive values, which boxes only the positions entering
+     * the reservoir.
+     *
+     * @param weights the stream of weights
+     * @param k       the number of positions to sample
+     * @return the reservoir holding {@code k} positions, counted from {@code 1}, or all positions of positive weights
+     * if there are fewer of them
+     * @throws IllegalStateException if any weight is negative
+     * @see #weightedReservoirSample(Iterator, ToDoubleFunction, int)
+     */
+    public static Reservoir<Long> weightedReservoirSample(DoubleStream weights, int k) {
+        Reservoir<Long> R = new Reservoir<>(k);
+        PrimitiveIterator.OfDouble iterator = weights.iterator();
+        weightedReservoirSample(R, new WeightedItems<Long>() {
+            private long position;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public double nextWeight() {
+                position++;
+                return iterator.nextDouble();
+            }
+
+            @Override
+            public Long item() {
+                return position;
+            }
+        });
+        return R;
+    }
+
+    private interface WeightedItems<E> {
+        boolean hasNext();
+
+        double nextWeight();
+
+        E item();
+    }
+
+    private static <E> void weightedReservoirSample(Reservoir<E> R, WeightedItems<E> items) {
+        int k = R.getCapacity();
+        if (k == 0) {
+            return;
+        }
+        Randomness.Source source = Randomness.current();
+        while (items.hasNext()) {
+            double w = items.nextWeight();
+            if (!(w >= 0.0)) {
+                throw new IllegalStateException("Negative weight");
+            }
+            if (R.size < k) {
+                if (w > 0.0) {
+                    insertIntoReservoir(R, items.item(), exponential(source) / w, source);
+                }
+            } else if (R.jump >= w) {
+                R.jump -= w;
+            } else {
+                replaceInReservoir(R, items.item(), w, source);
+            }
+        }
+    }
+
+    /**
+     * Merges two reservoirs of equal capacities sampled from disjoint streams, for example on separate threads,
+     * into a reservoir sampled from both streams. The merged reservoir holds the items with the smallest keys
+     * from both reservoirs and can be used to continue the sampling.
+     *
+     * @param R1  the first reservoir
+     * @param R2  the second reservoir
+     * @param <E> the type of items
+     * @return the new reservoir being a sample of both streams
+     * @throws IllegalStateException if the reservoirs have different capacities
+     */
+    public static <E> Reservoir<E> mergeReservoirs(Reservoir<E> R1, Reservoir<E> R2) {
+        int k = R1.getCapacity();
+        if (R2.getCapacity() != k) {
+            throw new IllegalStateException("Reservoirs of different capacities");
+        }
+        Randomness.Source source = Randomness.current();
+        Reservoir<E> R = new Reservoir<>(k);
+        if (k == 0) {
+            return R;
+        }
+        for (int i = 1; i <= R1.size; i++) {
+            offerToReservoir(R, R1.sample.at(i), R1.keys.at(i), source);
+        }
+        for (int i = 1; i <= R2.size; i++) {
+            offerToReservoir(R, R2.sample.at(i), R2.keys.at(i), source);
+        }
+        return R;
+    }
+
+    private static <E> void offerToReservoir(Reservoir<E> R, E x, double key, Randomness.Source source) {
+        if (R.size < R.getCapacity()) {
+            insertIntoReservoir(R, x, key, source);
+        } else if (key < R.keys.at(1)) {
+            R.sample.set(1, x);
+            R.keys.set(1, key);
+            reservoirMaxHeapify(R, 1);
+            R.jump = exponential(source) / R.keys.at(1);
+        }
+    }
+
+    private static double exponential(Randomness.Source source) {
+        return -Math.log(1.0 - source.nextDouble());
+    }
+
+    private static <E> void insertIntoReservoir(Reservoir<E> R, E x, double key, Randomness.Source source) {
+        R.size++;
+        int i = R.size;
+        while (i > 1 && R.keys.at(i / 2) < key) {
+            R.sample.set(i, R.sample.at(i / 2));
+            R.keys.set(i, R.keys.at(i / 2));
+            i /= 2;
+        }
+        R.sample.set(i, x);
+        R.keys.set(i, key);
+        if (R.size == R.getCapacity()) {
+            R.jump = exponential(source) / R.keys.at(1);
+        }
+    }
+
+    private static <E> void replaceInReservoir(Reservoir<E> R, E x, double w, Randomness.Source source) {
+        double u = source.nextDouble();
+        R.sample.set(1, x);
+        R.keys.set(1, -Math.log1p(u * Math.expm1(-w * R.keys.at(1))) / w);
+        reservoirMaxHeapify(R, 1);
+        R.jump = exponential(source) / R.keys.at(1);
+    }
+
+    private static <E> void reservoirMaxHeapify(Reservoir<E> R, int i) {
+        E x = R.sample.at(i);
+        double key = R.keys.at(i);
+        while (2 * i <= R.size) {
+            int largest = 2 * i;
+            if (largest < R.size && R.keys.at(largest + 1) > R.keys.at(largest)) {
+                largest++;
+            }
+            if (R.keys.at(largest) <= key) {
+                break;
+            }
+            R.sample.set(i, R.sample.at(largest));
+            R.keys.set(i, R.keys.at(largest));
+            i = largest;
+        }
+        R.sample.set(i, x);
+        R.keys.set(i, key);
+    }
+
 }
@@ -2,13 +2,30 @@ package pl.kwojtas.cormenimpl;
 
 import pl.kwojtas.cormenimpl.datastructure.Array;
 import pl.kwojtas.cormenimpl.datastructure.Heap;
+import pl.kwojtas.cormenimpl.datastructure.LongArray;
 import pl.kwojtas.cormenimpl.datastructure.Pair;
 import pl.kwojtas.cormenimpl.datastructure.PriorityQueueWithRanks;
 import pl.kwojtas.cormenimpl.datastructure.SinglyLinkedList;
 import pl.kwojtas.cormenimpl.datastructure.YoungTableau;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
 import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.Math.sqrt;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static pl.kwojtas.cormenimpl.Chapter8.binaryRadixSort;
 import static pl.kwojtas.cormenimpl.Fundamental.ceil;
 import static pl.kwojtas.cormenimpl.Fundamental.greater;
 import static pl.kwojtas.cormenimpl.Fundamental.less;
@@ -66,16 +83,16 @@ public final class Chapter6 {
         int l = left(i);
         int r = right(i);
         int largest;
-        if (l <= A.heapSize && greater(A.at(l), A.at(i))) {
+        if (l <= A.heapSize && greater(A.atUnchecked(l), A.atUnchecked(i))) {
             largest = l;
         } else {
             largest = i;
         }
-        if (r <= A.heapSize && greater(A.at(r), A.at(largest))) {
+        if (r <= A.heapSize && greater(A.atUnchecked(r), A.atUnchecked(largest))) {
             largest = r;
         }
         if (largest != i) {
-            A.exch(i, largest);
+            A.exchUnchecked(i, largest);
             maxHeapify(A, largest);
         }
     }
@@ -107,13 +124,55 @@ public final class Chapter6 {
     public static <E extends Comparable<? super E>> void heapsort(Array<E> A) {
         Heap<E> H = buildMaxHeap(A);
         for (int i = H.length; i >= 2; i--) {
-            H.exch(1, i);
+            H.exchUnchecked(1, i);
             H.heapSize--;
             maxHeapify(H, 1);
         }
         A.set(H);
     }
 
+    /**
+     * Sorts elements of a subarray in place using heap sort. The subarray {@code A[p..r]} is treated as a heap
+     * with the root at position {@code p}.
+     * <p><span style="font-variant:small-caps;">Heapsort</span> from subchapter 6.4.</p>
+     *
+     * @param A   the array of elements to sort
+     * @param p   the index of the beginning of subarray in {@code A} being sorted
+     * @param r   the index of the end of subarray in {@code A} being sorted
+     * @param <E> the type of elements in {@code A}
+     */
+    static <E extends Comparable<? super E>> void heapsort(Array<E> A, int p, int r) {
+        int n = r - p + 1;
+        for (int i = n / 2; i >= 1; i--) {
+            subarrayMaxHeapify(A, p, n, i);
+        }
+        for (int i = n; i >= 2; i--) {
+            A.exchUnchecked(p, p + i - 1);
+            subarrayMaxHeapify(A, p, i - 1, 1);
+        }
+    }
+
+    private static <E extends Comparable<? super E>> void subarrayMaxHeapify(Array<E> A, int p, int heapSize, int i) {
+        while (true) {
+            int l = left(i);
+            int r = right(i);
+            int largest;
+            if (l <= heapSize && greater(A.atUnchecked(p + l - 1), A.atUnchecked(p + i - 1))) {
+                largest = l;
+            } else {
+                largest = i;
+            }
+            if (r <= heapSize && greater(A.atUnchecked(p + r - 1), A.atUnchecked(p + largest - 1))) {
+                largest = r;
+            }
+            if (largest == i) {
+                return;
+            }
+            A.exchUnchecked(p + i - 1, p + largest - 1);
+            i = largest;
+        }
+    }
+
     /**
      * Restores the min-heap property.
      * <p><span style="font-variant:small-caps;">Min-Heapify</span> from solution to exercise 6.2-2.</p>
@@ -455,13 +514,13 @@ public final class Chapter6 {
         Heap<Pair<Integer, SinglyLinkedList<Integer>>> minPriorityQueue = Heap.ofLength(sortedLists.length);
         for (int i = 1; i <= sortedLists.length; i++) {
             if (sortedLists.at(i).head != null) {
-                minHeapInsertForMergingLists(minPriorityQueue, new Pair<>(sortedLists.at(i).head.key, sortedLists.at(i)));
+                minHeapInsertForMerging(minPriorityQueue, new Pair<>(sortedLists.at(i).head.key, sortedLists.at(i)));
                 sortedLists.at(i).head = sortedLists.at(i).head.next;
             }
         }
         SinglyLinkedList.Node<Integer> tail = null;
         while (minPriorityQueue.heapSize > 0) {
-            Pair<Integer, SinglyLinkedList<Integer>> min = heapExtractMinForMergingLists(minPriorityQueue);
+            Pair<Integer, SinglyLinkedList<Integer>> min = heapExtractMinForMerging(minPriorityQueue);
             SinglyLinkedList.Node<Integer> newNode = new SinglyLinkedList.Node<>(min.first);
             if (mergedList.head == null) {
                 mergedList.head = tail = newNode;
@@ -469,20 +528,20 @@ public final class Chapter6 {
                 tail = tail.next = newNode;
             }
             if (min.second.head != null) {
-                minHeapInsertForMergingLists(minPriorityQueue, new Pair<>(min.second.head.key, min.second));
+                minHeapInsertForMerging(minPriorityQueue, new Pair<>(min.second.head.key, min.second));
                 min.second.head = min.second.head.next;
             }
         }
         return mergedList;
     }
 
-    private static void minHeapInsertForMergingLists(Heap<Pair<Integer, SinglyLinkedList<Integer>>> A, Pair<Integer, SinglyLinkedList<Integer>> key) {
+    private static <T> void minHeapInsertForMerging(Heap<Pair<Integer, T>> A, Pair<Integer, T> key) {
         A.heapSize++;
         A.set(A.heapSize, new Pair<>(Integer.MAX_VALUE, key.second));
-        heapDecreaseKeyForMergingLists(A, A.heapSize, key);
+        heapDecreaseKeyForMerging(A, A.heapSize, key);
     }
 
-    private static void heapDecreaseKeyForMergingLists(Heap<Pair<Integer, SinglyLinkedList<Integer>>> A, int i, Pair<Integer, SinglyLinkedList<Integer>> key) {
+    private static <T> void heapDecreaseKeyForMerging(Heap<Pair<Integer, T>> A, int i, Pair<Integer, T> key) {
         A.set(i, key);
         while (i > 1 && A.at(parent(i)).first > A.at(i).first) {
             A.exch(i, parent(i));
@@ -490,15 +549,15 @@ public final class Chapter6 {
         }
     }
 
-    private static Pair<Integer, SinglyLinkedList<Integer>> heapExtractMinForMergingLists(Heap<Pair<Integer, SinglyLinkedList<Integer>>> A) {
-        Pair<Integer, SinglyLinkedList<Integer>> min = A.at(1);
+    private static <T> Pair<Integer, T> heapExtractMinForMerging(Heap<Pair<Integer, T>> A) {
+        Pair<Integer, T> min = A.at(1);
         A.set(1, A.at(A.heapSize));
         A.heapSize--;
-        minHeapifyForMergingLists(A, 1);
+        minHeapifyForMerging(A, 1);
         return min;
     }
 
-    private static void minHeapifyForMergingLists(Heap<Pair<Integer, SinglyLinkedList<Integer>>> A, int i) {
+    private static <T> void minHeapifyForMerging(Heap<Pair<Integer, T>> A, int i) {
         int l = left(i);
         int r = right(i);
         int smallest;
@@ -512,10 +571,336 @@ public final class Chapter6 {
         }
         if (smallest != i) {
             A.exch(i, smallest);
-            minHeapifyForMergingLists(A, smallest);
+            minHeapifyForMerging(A, smallest);
         }
     }
 
+    /**
+     * The default number of bytes of memory that {@link #externalMergeSort(Path, Path, int)} uses for buffers.
+     */
+    public static final long EXTERNAL_MERGE_SORT_DEFAULT_MEMORY = 64L << 20;
+
+    /**
+     * The minimum size in bytes of the buffers that {@link #externalMergeSort(Path, Path, int, long)} uses for
+     * merging runs, which bounds the number of runs merged at once.
+     */
+    public static final int EXTERNAL_MERGE_SORT_MIN_BUFFER_SIZE = 4096;
+
+    /**
+     * Sorts fixed-size records stored in a file using external merge sort with the default amount of memory.
+     *
+     * @param input      the file containing the records to sort
+     * @param output     the file to write the sorted records to, different from {@code input}
+     * @param recordSize the number of bytes in a record, at least {@code 4}
+     * @throws IOException if an I/O error occurs
+     * @see #externalMergeSort(Path, Path, int, long)
+     */
+    public static void externalMergeSort(Path input, Path output, int recordSize) throws IOException {
+        externalMergeSort(input, output, recordSize, EXTERNAL_MERGE_SORT_DEFAULT_MEMORY);
+    }
+
+    /**
+     * Sorts fixed-size records stored in a file using external merge sort.
+     * <p>Every record consists of {@code recordSize} bytes and starts with its key - a big-endian {@code int} -
+     * followed by satellite data. The records are read in chunks that fit in {@code memory}, and each chunk is sorted
+     * in memory by radix sort on its keys and written as a sorted run. The runs are then merged using a min-priority
+     * queue as in exercise 6.5-8, in several passes if there are too many runs to merge at once. Every file is read
+     * and written asynchronously through two buffers, so that a block is transferred while another one is processed.
+     * The sort is not stable.</p>
+     *
+     * @param input      the file containing the records to sort
+     * @param output     the file to write the sorted records to, different from {@code input}
+     * @param recordSize the number of bytes in a record, at least {@code 4}
+     * @param memory     the approximate number of bytes of memory to use for buffers
+     * @throws IOException           if an I/O error occurs
+     * @throws IllegalStateException if the length of {@code input} is not a multiple of {@code recordSize}
+     */
+    public static void externalMergeSort(Path input, Path output, int recordSize, long memory) throws IOException {
+        long size = Files.size(input);
+        if (size % recordSize != 0) {
+            throw new IllegalStateException("File length is not a multiple of record size");
+        }
+        long n = size / recordSize;
+        int runLength = (int) max(1, min(memory / (4L * recordSize + 8), min(n, Integer.MAX_VALUE / recordSize)));
+        int fanIn = (int) max(2, min(memory / (2L * EXTERNAL_MERGE_SORT_MIN_BUFFER_SIZE) - 1, Integer.MAX_VALUE));
+        if (n <= runLength) {
+            makeSortedRuns(input, output, n, recordSize, runLength);
+            return;
+        }
+        Path directory = output.toAbsolutePath().getParent();
+        Path runs = null;
+        Path mergedRuns = null;
+        try {
+            runs = Files.createTempFile(directory, "runs", null);
+            makeSortedRuns(input, runs, n, recordSize, runLength);
+            long length = runLength;
+            while (length < n) {
+                long mergedLength = length <= n / fanIn ? length * fanIn : n;
+                if (mergedLength == n) {
+                    mergeRuns(runs, output, n, recordSize, length, fanIn, memory);
+                } else {
+                    if (mergedRuns == null) {
+                        mergedRuns = Files.createTempFile(directory, "runs", null);
+                    }
+                    mergeRuns(runs, mergedRuns, n, recordSize, length, fanIn, memory);
+                    Path swap = runs;
+                    runs = mergedRuns;
+                    mergedRuns = swap;
+                }
+                length = mergedLength;
+            }
+        } finally {
+            if (runs != null) {
+                Files.deleteIfExists(runs);
+            }
+            if (mergedRuns != null) {
+                Files.deleteIfExists(mergedRuns);
+            }
+        }
+    }
+
+    private static void makeSortedRuns(Path input, Path runs, long n, int recordSize, int runLength) throws IOException {
+        try (AsynchronousFileChannel source = AsynchronousFileChannel.open(input, READ);
+             AsynchronousFileChannel target = AsynchronousFileChannel.open(runs, WRITE, CREATE, TRUNCATE_EXISTING)) {
+            int bufferSize = runLength * recordSize;
+            Transfer[] chunks = {
+                    new Transfer(source, ByteBuffer.allocate(bufferSize)), new Transfer(source, ByteBuffer.allocate(bufferSize))
+            };
+            Transfer[] sortedChunks = {
+                    new Transfer(target, ByteBuffer.allocate(bufferSize)), new Transfer(target, ByteBuffer.allocate(bufferSize))
+            };
+            LongArray keys = LongArray.ofLength(runLength);
+            long numberOfRuns = (n + runLength - 1) / runLength;
+            if (n > 0) {
+                chunks[0].startRead(0, (int) min(n, runLength) * recordSize);
+            }
+            for (long i = 0; i < numberOfRuns; i++) {
+                Transfer chunk = chunks[(int) (i % 2)];
+                chunk.await();
+                long nextBegin = (i + 1) * runLength;
+                if (nextBegin < n) {
+                    chunks[(int) ((i + 1) % 2)].startRead(nextBegin * recordSize, (int) min(n - nextBegin, runLength) * recordSize);
+                }
+                Transfer sortedChunk = sortedChunks[(int) (i % 2)];
+                sortedChunk.await();
+                int m = chunk.buffer.limit() / recordSize;
+                if (m < keys.length) {
+                    keys = LongArray.ofLength(m);
+                }
+                sortChunk(chunk.buffer, sortedChunk.buffer, m, recordSize, keys);
+                sortedChunk.startWrite(i * runLength * recordSize);
+            }
+            sortedChunks[0].await();
+            sortedChunks[1].await();
+        }
+    }
+
+    private static void sortChunk(ByteBuffer chunk, ByteBuffer sortedChunk, int m, int recordSize, LongArray keys) {
+        for (int i = 0; i <= m - 1; i++) {
+            keys.setUnchecked(i + 1, (long) chunk.getInt(i * recordSize) << 32 | i);
+        }
+        binaryRadixSort(keys);
+        byte[] records = chunk.array();
+        byte[] sortedRecords = sortedChunk.array();
+        for (int i = 0; i <= m - 1; i++) {
+            int j = (int) keys.atUnchecked(i + 1);
+            System.arraycopy(records, j * recordSize, sortedRecords, i * recordSize, recordSize);
+        }
+        sortedChunk.position(m * recordSize);
+    }
+
+    private static void mergeRuns(Path runs, Path mergedRuns, long n, int recordSize, long length, int fanIn, long memory)
+            throws IOException {
+        try (AsynchronousFileChannel source = AsynchronousFileChannel.open(runs, READ);
+             AsynchronousFileChannel target = AsynchronousFileChannel.open(mergedRuns, WRITE, CREATE, TRUNCATE_EXISTING)) {
+            long mergedLength = length <= n / fanIn ? length * fanIn : n;
+            for (long begin = 0; begin < n; begin += mergedLength) {
+                long end = min(begin + mergedLength, n);
+                int k = (int) ((end - begin + length - 1) / length);
+                int bufferSize = (int) max(1, min(memory / (2L * (k + 1) * recordSize), Integer.MAX_VALUE / recordSize))
+                        * recordSize;
+                Heap<Pair<Integer, RunReader>> minPriorityQueue = Heap.ofLength(k);
+                for (long runBegin = begin; runBegin < end; runBegin += length) {
+                    RunReader run = new RunReader(source, runBegin * recordSize, min(runBegin + length, end) * recordSize,
+                            bufferSize, recordSize);
+                    minHeapInsertForMerging(minPriorityQueue, new Pair<>(run.key(), run));
+                }
+                RunWriter mergedRun = new RunWriter(target, begin * recordSize, bufferSize, recordSize);
+                while (minPriorityQueue.heapSize > 0) {
+                    Pair<Integer, RunReader> min = minPriorityQueue.at(1);
+                    if (min.second.moveRecordTo(mergedRun)) {
+                        min.first = min.second.key();
+                        minHeapifyForMerging(minPriorityQueue, 1);
+                    } else {
+                        heapExtractMinForMerging(minPriorityQueue);
+                    }
+                }
+                mergedRun.close();
+            }
+        }
+    }
+
+    private static final class Transfer {
+
+        private final AsynchronousFileChannel channel;
+        private final ByteBuffer buffer;
+        private boolean reading;
+        private long position;
+        private Future<Integer> pending;
+
+        private Transfer(AsynchronousFileChannel channel, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private void startRead(long position, int length) {
+            buffer.clear();
+            buffer.limit(length);
+            reading = true;
+            this.position = position;
+            pending = channel.read(buffer, position);
+        }
+
+        private void startWrite(long position) {
+            buffer.flip();
+            reading = false;
+            this.position = position;
+            pending = channel.write(buffer, position);
+        }
+
+        private boolean isPending() {
+            return pending != null;
+        }
+
+        private void await() throws IOException {
+            if (pending == null) {
+                return;
+            }
+            while (pending != null) {
+                int transferred;
+                try {
+                    transferred = pending.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+                }
+                if (transferred < 0) {
+                    throw new EOFException();
+                }
+                position += transferred;
+                if (!buffer.hasRemaining()) {
+                    pending = null;
+                } else if (reading) {
+                    pending = channel.read(buffer, position);
+                } else {
+                    pending = channel.write(buffer, position);
+                }
+            }
+            if (reading) {
+                buffer.flip();
+            } else {
+                buffer.clear();
+            }
+        }
+
+    }
+
+    private static final class RunReader {
+
+        private final Transfer[] blocks;
+        private final int recordSize;
+        private final long end;
+        private long position;
+        private int current;
+
+        private RunReader(AsynchronousFileChannel channel, long begin, long end, int bufferSize, int recordSize)
+                throws IOException {
+            this.blocks = new Transfer[]{
+                    new Transfer(channel, ByteBuffer.allocate(bufferSize)), new Transfer(channel, ByteBuffer.allocate(bufferSize))
+            };
+            this.recordSize = recordSize;
+            this.end = end;
+            this.position = begin;
+            readBlock(0);
+            blocks[0].await();
+            readBlock(1);
+        }
+
+        private void readBlock(int block) {
+            if (position < end) {
+                int length = (int) min(blocks[block].buffer.capacity(), end - position);
+                blocks[block].startRead(position, length);
+                position += length;
+            }
+        }
+
+        private int key() {
+            ByteBuffer buffer = blocks[current].buffer;
+            return buffer.getInt(buffer.position());
+        }
+
+        private boolean moveRecordTo(RunWriter run) throws IOException {
+            ByteBuffer buffer = blocks[current].buffer;
+            run.put(buffer.array(), buffer.position());
+            buffer.position(buffer.position() + recordSize);
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+            int next = 1 - current;
+            if (!blocks[next].isPending()) {
+                return false;
+            }
+            blocks[next].await();
+            readBlock(current);
+            current = next;
+            return true;
+        }
+
+    }
+
+    private static final class RunWriter {
+
+        private final Transfer[] blocks;
+        private final int recordSize;
+        private long position;
+        private int current;
+
+        private RunWriter(AsynchronousFileChannel channel, long begin, int bufferSize, int recordSize) {
+            this.blocks = new Transfer[]{
+                    new Transfer(channel, ByteBuffer.allocate(bufferSize)), new Transfer(channel, ByteBuffer.allocate(bufferSize))
+            };
+            this.recordSize = recordSize;
+            this.position = begin;
+        }
+
+        private void put(byte[] records, int offset) throws IOException {
+            ByteBuffer buffer = blocks[current].buffer;
+            buffer.put(records, offset, recordSize);
+            if (!buffer.hasRemaining()) {
+                writeBlock();
+            }
+        }
+
+        private void writeBlock() throws IOException {
+            int length = blocks[current].buffer.position();
+            blocks[current].startWrite(position);
+            position += length;
+            current = 1 - current;
+            blocks[current].await();
+        }
+
+        private void close() throws IOException {
+            if (blocks[current].buffer.position() > 0) {
+                writeBlock();
+            }
+            blocks[0].await();
+            blocks[1].await();
+        }
+
+    }
+
     /**
      * Constructs a max-heap from an array of elements - alternative method.
      * <p><span style="font-variant:small-caps;">Build-Max-Heap'</span> from problem 6-1.</p>
@@ -4,8 +4,12 @@ import pl.kwojtas.cormenimpl.datastructure.Array;
 import pl.kwojtas.cormenimpl.datastructure.Interval;
 import pl.kwojtas.cormenimpl.datastructure.Pair;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 import static pl.kwojtas.cormenimpl.Chapter2.insertionSort;
 import static pl.kwojtas.cormenimpl.Chapter5.random;
+import static pl.kwojtas.cormenimpl.Chapter6.heapsort;
 import static pl.kwojtas.cormenimpl.Fundamental.greater;
 import static pl.kwojtas.cormenimpl.Fundamental.leq;
 import static pl.kwojtas.cormenimpl.Fundamental.less;
@@ -47,15 +51,15 @@ public final class Chapter7 {
      * @return the index of the pivot element after partitioning
      */
     static <E extends Comparable<? super E>> int partition(Array<E> A, int p, int r) {
-        E x = A.at(r);
+        E x = A.atUnchecked(r);
         int i = p - 1;
         for (int j = p; j <= r - 1; j++) {
-            if (leq(A.at(j), x)) {
+            if (leq(A.atUnchecked(j), x)) {
                 i++;
-                A.exch(i, j);
+                A.exchUnchecked(i, j);
             }
         }
-        A.exch(i + 1, r);
+        A.exchUnchecked(i + 1, r);
         return i + 1;
     }
 
@@ -93,6 +97,143 @@ public final class Chapter7 {
         }
     }
 
+    /**
+     * Partitioning schemes that can be used by {@link #quicksort(Array, int, int, PartitioningScheme)}
+     * and {@link #randomizedQuicksort(Array, int, int, PartitioningScheme)}.
+     */
+    public enum PartitioningScheme {
+
+        /**
+         * Partitioning into two subarrays around a single pivot element as in
+         * <span style="font-variant:small-caps;">Partition</span> from subchapter 7.1.
+         */
+        LOMUTO,
+
+        /**
+         * Partitioning into elements less than, equal to and greater than a single pivot element
+         * (the Dutch national flag problem), so that elements equal to the pivot element are not sorted any further.
+         */
+        THREE_WAY,
+
+        /**
+         * Partitioning into three subarrays around two pivot elements as in Yaroslavskiy's dual-pivot quicksort.
+         */
+        DUAL_PIVOT
+    }
+
+    /**
+     * Sorts elements using quicksort with the given partitioning scheme.
+     * <p><span style="font-variant:small-caps;">Quicksort</span> from subchapter 7.1.</p>
+     *
+     * @param A      the array of elements to sort
+     * @param p      the index of the beginning of subarray in {@code A} being sorted
+     * @param r      the index of the end of subarray in {@code A} being sorted
+     * @param scheme the partitioning scheme
+     * @param <E>    the type of elements in {@code A}
+     */
+    public static <E extends Comparable<? super E>> void quicksort(Array<E> A, int p, int r, PartitioningScheme scheme) {
+        quicksort(A, p, r, scheme, false);
+    }
+
+    /**
+     * Sorts elements using quicksort with randomized partition and the given partitioning scheme.
+     * <p><span style="font-variant:small-caps;">Randomized-Quicksort</span> from subchapter 7.3.</p>
+     *
+     * @param A      the array of elements to sort
+     * @param p      the index of the beginning of subarray in {@code A} being sorted
+     * @param r      the index of the end of subarray in {@code A} being sorted
+     * @param scheme the partitioning scheme
+     * @param <E>    the type of elements in {@code A}
+     */
+    public static <E extends Comparable<? super E>> void randomizedQuicksort(Array<E> A, int p, int r, PartitioningScheme scheme) {
+        quicksort(A, p, r, scheme, true);
+    }
+
+    private static <E extends Comparable<? super E>> void quicksort(Array<E> A, int p, int r, PartitioningScheme scheme,
+                                                                    boolean randomized) {
+        if (p >= r) {
+            return;
+        }
+        switch (scheme) {
+            case LOMUTO: {
+                int q = randomized ? randomizedPartition(A, p, r) : partition(A, p, r);
+                quicksort(A, p, q - 1, scheme, randomized);
+                quicksort(A, q + 1, r, scheme, randomized);
+                break;
+            }
+            case THREE_WAY: {
+                if (randomized) {
+                    A.exch(r, random(p, r));
+                }
+                Pair<Integer, Integer> q = threeWayPartition(A, p, r);
+                quicksort(A, p, q.first - 1, scheme, randomized);
+                quicksort(A, q.second + 1, r, scheme, randomized);
+                break;
+            }
+            case DUAL_PIVOT: {
+                if (randomized) {
+                    A.exch(p, random(p, r));
+                    A.exch(r, random(p + 1, r));
+                }
+                Pair<Integer, Integer> q = dualPivotPartition(A, p, r);
+                quicksort(A, p, q.first - 1, scheme, randomized);
+                if (less(A.atUnchecked(q.first), A.atUnchecked(q.second))) {
+                    quicksort(A, q.first + 1, q.second - 1, scheme, randomized);
+                }
+                quicksort(A, q.second + 1, r, scheme, randomized);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Partitions an array into three subarrays around two pivot elements - the smaller of {@code A[p]} and {@code A[r]}
+     * and the larger of them. The first subarray will contain elements less than the smaller pivot element,
+     * the second subarray will contain elements between the pivot elements, inclusive, and the third subarray will contain
+     * elements greater than the larger pivot element. When both pivot elements are equal, the second subarray contains
+     * only elements equal to them.
+     * <p>Yaroslavskiy's dual-pivot partitioning.</p>
+     *
+     * @param A   the array of elements to partition
+     * @param p   the index of the beginning of subarray in {@code A} being partitioned and the index of a pivot element
+     * @param r   the index of the end of subarray in {@code A} being partitioned and the index of a pivot element
+     * @param <E> the type of elements in {@code A}
+     * @return the pair of indices of the smaller and the larger pivot element after partitioning
+     */
+    static <E extends Comparable<? super E>> Pair<Integer, Integer> dualPivotPartition(Array<E> A, int p, int r) {
+        if (greater(A.atUnchecked(p), A.atUnchecked(r))) {
+            A.exchUnchecked(p, r);
+        }
+        E x1 = A.atUnchecked(p);
+        E x2 = A.atUnchecked(r);
+        int lt = p + 1;
+        int gt = r - 1;
+        int k = lt;
+        while (k <= gt) {
+            E y = A.atUnchecked(k);
+            if (less(y, x1)) {
+                A.exchUnchecked(k, lt);
+                lt++;
+            } else if (greater(y, x2)) {
+                while (k < gt && greater(A.atUnchecked(gt), x2)) {
+                    gt--;
+                }
+                A.exchUnchecked(k, gt);
+                gt--;
+                if (less(A.atUnchecked(k), x1)) {
+                    A.exchUnchecked(k, lt);
+                    lt++;
+                }
+            }
+            k++;
+        }
+        lt--;
+        gt++;
+        A.exchUnchecked(p, lt);
+        A.exchUnchecked(r, gt);
+        return new Pair<>(lt, gt);
+    }
+
     /**
      * Sorts elements in a nearly sorted array. Uses quicksort to sort long subarrays and insertion sort to sort short subarrays.
      * <p>Exercise 7.4-5.</p>
@@ -134,18 +275,18 @@ public final class Chapter7 {
      * @return the index of the pivot element after partitioning
      */
     static <E extends Comparable<? super E>> int hoarePartition(Array<E> A, int p, int r) {
-        E x = A.at(p);
+        E x = A.atUnchecked(p);
         int i = p - 1;
         int j = r + 1;
         while (true) {
             do {
                 j--;
-            } while (greater(A.at(j), x));
+            } while (greater(A.atUnchecked(j), x));
             do {
                 i++;
-            } while (less(A.at(i), x));
+            } while (less(A.atUnchecked(i), x));
             if (i < j) {
-                A.exch(i, j);
+                A.exchUnchecked(i, j);
             } else {
                 return j;
             }
@@ -243,6 +384,11 @@ public final class Chapter7 {
      * @return the index of the pivot element after partitioning
      */
     public static <E extends Comparable<? super E>> int medianOf3Partition(Array<E> A, int p, int r) {
+        exchangeMedianOf3WithLast(A, p, r);
+        return partition(A, p, r);
+    }
+
+    private static <E extends Comparable<? super E>> void exchangeMedianOf3WithLast(Array<E> A, int p, int r) {
         int i1 = random(p, r);
         int i2 = random(p, r);
         int i3 = random(p, r);
@@ -256,7 +402,186 @@ public final class Chapter7 {
         } else {
             A.exch(r, i3);
         }
-        return partition(A, p, r);
+    }
+
+    /**
+     * Partitions an array into three subarrays around a pivot element. The first subarray will contain elements
+     * less than the pivot element, the second subarray will contain elements equal to the pivot element,
+     * and the third subarray will contain elements greater than the pivot element.
+     *
+     * @param A   the array of elements to partition
+     * @param p   the index of the beginning of subarray in {@code A} being partitioned
+     * @param r   the index of the end of subarray in {@code A} being partitioned and the index of the pivot element
+     * @param <E> the type of elements in {@code A}
+     * @return the pair of indices bounding the part of {@code A} containing elements equal to the pivot element
+     */
+    static <E extends Comparable<? super E>> Pair<Integer, Integer> threeWayPartition(Array<E> A, int p, int r) {
+        E x = A.atUnchecked(r);
+        int lt = p;
+        int i = p;
+        int gt = r;
+        while (i <= gt) {
+            E y = A.atUnchecked(i);
+            if (less(y, x)) {
+                A.exchUnchecked(lt, i);
+                lt++;
+                i++;
+            } else if (greater(y, x)) {
+                A.exchUnchecked(i, gt);
+                gt--;
+            } else {
+                i++;
+            }
+        }
+        return new Pair<>(lt, gt);
+    }
+
+    private static final int INTROSORT_INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Sorts elements using introsort - a quicksort that falls back on heap sort when the recursion gets too deep.
+     * Pivots are chosen as medians of 3 randomly chosen elements and the subarrays are partitioned into three parts,
+     * so that the elements equal to the pivot are excluded from further sorting.
+     * A subarray is sorted using heap sort after <tt>2 lg n</tt> partitioning levels,
+     * and subarrays of at most 16 elements are sorted using insertion sort,
+     * so the running time is <tt>O(n lg n)</tt> in the worst case.
+     *
+     * @param A   the array of elements to sort
+     * @param <E> the type of elements in {@code A}
+     */
+    public static <E extends Comparable<? super E>> void introsort(Array<E> A) {
+        if (A.length > 1) {
+            introsort(A, 1, A.length, 2 * (31 - Integer.numberOfLeadingZeros(A.length)));
+        }
+    }
+
+    private static <E extends Comparable<? super E>> void introsort(Array<E> A, int p, int r, int depthLimit) {
+        while (r - p + 1 > INTROSORT_INSERTION_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapsort(A, p, r);
+                return;
+            }
+            depthLimit--;
+            exchangeMedianOf3WithLast(A, p, r);
+            Pair<Integer, Integer> q = threeWayPartition(A, p, r);
+            if (q.first - p < r - q.second) {
+                introsort(A, p, q.first - 1, depthLimit);
+                p = q.second + 1;
+            } else {
+                introsort(A, q.second + 1, r, depthLimit);
+                r = q.first - 1;
+            }
+        }
+        insertionSort(A, p, r);
+    }
+
+    /**
+     * The default length of subarrays that {@link #parallelQuicksort(Array, int, int)} sorts in a single task.
+     */
+    public static final int PARALLEL_QUICKSORT_THRESHOLD = 8192;
+
+    private static final int QUICKSORT_INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Sorts elements using quicksort parallelized with the fork-join framework.
+     * After each partitioning of a subarray longer than {@link #PARALLEL_QUICKSORT_THRESHOLD} the smaller part is forked
+     * as a separate task, shorter subarrays are sorted sequentially always recurring on the smaller part first,
+     * and subarrays of at most 16 elements are sorted using insertion sort.
+     * Pivots are chosen as medians of 3 randomly chosen elements and the subarrays are partitioned into three parts,
+     * so that the elements equal to the pivot are excluded from further sorting.
+     *
+     * @param A   the array of elements to sort
+     * @param p   the index of the beginning of subarray in {@code A} being sorted
+     * @param r   the index of the end of subarray in {@code A} being sorted
+     * @param <E> the type of elements in {@code A}
+     */
+    public static <E extends Comparable<? super E>> void parallelQuicksort(Array<E> A, int p, int r) {
+        parallelQuicksort(A, p, r, PARALLEL_QUICKSORT_THRESHOLD);
+    }
+
+    /**
+     * Sorts elements using quicksort parallelized with the fork-join framework.
+     * After each partitioning of a subarray longer than {@code threshold} the smaller part is forked as a separate task,
+     * shorter subarrays are sorted sequentially always recurring on the smaller part first,
+     * and subarrays of at most 16 elements are sorted using insertion sort.
+     * Pivots are chosen as medians of 3 randomly chosen elements and the subarrays are partitioned into three parts,
+     * so that the elements equal to the pivot are excluded from further sorting.
+     *
+     * @param A         the array of elements to sort
+     * @param p         the index of the beginning of subarray in {@code A} being sorted
+     * @param r         the index of the end of subarray in {@code A} being sorted
+     * @param threshold the length of subarrays that are sorted in a single task
+     * @param <E>       the type of elements in {@code A}
+     */
+    public static <E extends Comparable<? super E>> void parallelQuicksort(Array<E> A, int p, int r, int threshold) {
+        if (p < r) {
+            ForkJoinPool.commonPool().invoke(new QuicksortTask<>(A, p, r, threshold, null));
+        }
+    }
+
+    private static final class QuicksortTask<E extends Comparable<? super E>> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Array<E> A;
+        private final int p;
+        private final int r;
+        private final int threshold;
+        private final QuicksortTask<E> next;
+
+        QuicksortTask(Array<E> A, int p, int r, int threshold, QuicksortTask<E> next) {
+            this.A = A;
+            this.p = p;
+            this.r = r;
+            this.threshold = threshold;
+            this.next = next;
+        }
+
+        @Override
+        protected void compute() {
+            int p = this.p;
+            int r = this.r;
+            QuicksortTask<E> forked = null;
+            while (r - p + 1 > threshold) {
+                exchangeMedianOf3WithLast(A, p, r);
+                Pair<Integer, Integer> q = threeWayPartition(A, p, r);
+                int forkedP;
+                int forkedR;
+                if (q.first - p < r - q.second) {
+                    forkedP = p;
+                    forkedR = q.first - 1;
+                    p = q.second + 1;
+                } else {
+                    forkedP = q.second + 1;
+                    forkedR = r;
+                    r = q.first - 1;
+                }
+                if (forkedP < forkedR) {
+                    forked = new QuicksortTask<>(A, forkedP, forkedR, threshold, forked);
+                    forked.fork();
+                }
+            }
+            smallerPartFirstQuicksort(A, p, r);
+            while (forked != null) {
+                forked.join();
+                forked = forked.next;
+            }
+        }
+    }
+
+    private static <E extends Comparable<? super E>> void smallerPartFirstQuicksort(Array<E> A, int p, int r) {
+        while (r - p + 1 > QUICKSORT_INSERTION_SORT_THRESHOLD) {
+            exchangeMedianOf3WithLast(A, p, r);
+            Pair<Integer, Integer> q = threeWayPartition(A, p, r);
+            if (q.first - p < r - q.second) {
+                smallerPartFirstQuicksort(A, p, q.first - 1);
+                p = q.second + 1;
+            } else {
+                smallerPartFirstQuicksort(A, q.second + 1, r);
+                r = q.first - 1;
+            }
+        }
+        insertionSort(A, p, r);
     }
 
     /**
@@ -1,16 +1,26 @@
 package pl.kwojtas.cormenimpl;
 
 import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.DoubleArray;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
 import pl.kwojtas.cormenimpl.datastructure.List;
+import pl.kwojtas.cormenimpl.datastructure.LongArray;
 import pl.kwojtas.cormenimpl.datastructure.Pair;
 import pl.kwojtas.cormenimpl.datastructure.Point2D;
 import pl.kwojtas.cormenimpl.datastructure.ZeroBasedIndexedArray;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.Math.sqrt;
 import static pl.kwojtas.cormenimpl.Chapter10.listInsert;
 import static pl.kwojtas.cormenimpl.Chapter5.random;
 import static pl.kwojtas.cormenimpl.Chapter7.partition;
+import static pl.kwojtas.cormenimpl.Fundamental.SORTING_NETWORK_MAX_LENGTH;
+import static pl.kwojtas.cormenimpl.Fundamental.forEachChunk;
+import static pl.kwojtas.cormenimpl.Fundamental.sortingNetworkSort;
 
 /**
  * Implements algorithms from Chapter 8.
@@ -45,6 +55,164 @@ public final class Chapter8 {
         }
     }
 
+    /**
+     * Sorts elements using counting sort - a version for arrays of primitive values.
+     * <p><span style="font-variant:small-caps;">Counting-Sort</span> from subchapter 8.2.</p>
+     *
+     * @param A the array of elements to sort
+     * @param B the resulting array of sorted elements
+     * @param k the upper bound of elements' values in {@code A}
+     */
+    public static void countingSort(IntArray A, IntArray B, int k) {
+        int[] C = new int[k + 1];
+        for (int j = 1; j <= A.length; j++) {
+            C[A.atUnchecked(j)]++;
+        }
+        for (int i = 1; i <= k; i++) {
+            C[i] += C[i - 1];
+        }
+        for (int j = A.length; j >= 1; j--) {
+            B.setUnchecked(C[A.atUnchecked(j)], A.atUnchecked(j));
+            C[A.atUnchecked(j)]--;
+        }
+    }
+
+    /**
+     * The minimum number of elements that {@link #parallelCountingSort(IntArray, IntArray, int)}
+     * and {@link #parallelCumulativeCounts(IntArray, int)} process in a single task.
+     */
+    public static final int PARALLEL_COUNTING_SORT_THRESHOLD = 65536;
+
+    /**
+     * Sorts elements using counting sort parallelized with the fork-join framework.
+     * The input is divided into at most as many chunks as there are threads in the common fork-join pool,
+     * but not into chunks shorter than {@link #PARALLEL_COUNTING_SORT_THRESHOLD}.
+     *
+     * @param A the array of elements to sort
+     * @param B the resulting array of sorted elements
+     * @param k the upper bound of elements' values in {@code A}
+     */
+    public static void parallelCountingSort(IntArray A, IntArray B, int k) {
+        parallelCountingSort(A, B, k, defaultNumberOfChunks(A.length));
+    }
+
+    /**
+     * Sorts elements using counting sort parallelized with the fork-join framework.
+     * Occurrences of each value are counted separately in each chunk of {@code A}, the counts are merged into
+     * the starting positions of each value from each chunk, and then each chunk is moved to {@code B} in parallel.
+     * Elements from earlier chunks precede equal elements from later chunks, so the sort is stable.
+     *
+     * @param A      the array of elements to sort
+     * @param B      the resulting array of sorted elements
+     * @param k      the upper bound of elements' values in {@code A}
+     * @param chunks the number of chunks to divide {@code A} into, at least {@code 1}
+     */
+    public static void parallelCountingSort(IntArray A, IntArray B, int k, int chunks) {
+        int n = A.length;
+        int[][] C = histograms(A, k, chunks);
+        int position = 1;
+        for (int i = 0; i <= k; i++) {
+            for (int t = 0; t < chunks; t++) {
+                int count = C[t][i];
+                C[t][i] = position;
+                position += count;
+            }
+        }
+        forEachChunk(chunks, t -> {
+            int[] next = C[t];
+            for (int j = chunkBeginning(n, chunks, t); j <= chunkEnd(n, chunks, t); j++) {
+                int x = A.atUnchecked(j);
+                B.setUnchecked(next[x]++, x);
+            }
+        });
+    }
+
+    /**
+     * Counts elements not greater than each value in an array, in parallel with the fork-join framework.
+     * The result allows to answer in <tt>O(1)</tt> time how many elements fall into any interval,
+     * using {@link #countNumbersInRangeFromCounts(IntArray, int, int)}.
+     * <p>Preprocessing from solution to exercise 8.2-4.</p>
+     *
+     * @param A the array of elements
+     * @param k the upper bound of elements' values in {@code A}
+     * @return the array of length {@code k + 1} containing at the {@code i}-th position the number of elements
+     * from {@code A} that are not greater than {@code i - 1}
+     */
+    public static IntArray parallelCumulativeCounts(IntArray A, int k) {
+        return parallelCumulativeCounts(A, k, defaultNumberOfChunks(A.length));
+    }
+
+    /**
+     * Counts elements not greater than each value in an array, in parallel with the fork-join framework.
+     * Occurrences of each value are counted separately in each chunk of {@code A} and then summed up.
+     * <p>Preprocessing from solution to exercise 8.2-4.</p>
+     *
+     * @param A      the array of elements
+     * @param k      the upper bound of elements' values in {@code A}
+     * @param chunks the number of chunks to divide {@code A} into, at least {@code 1}
+     * @return the array of length {@code k + 1} containing at the {@code i}-th position the number of elements
+     * from {@code A} that are not greater than {@code i - 1}
+     */
+    public static IntArray parallelCumulativeCounts(IntArray A, int k, int chunks) {
+        int[][] C = histograms(A, k, chunks);
+        IntArray counts = IntArray.ofLength(k + 1);
+        int count = 0;
+        for (int i = 0; i <= k; i++) {
+            for (int t = 0; t < chunks; t++) {
+                count += C[t][i];
+            }
+            counts.setUnchecked(i + 1, count);
+        }
+        return counts;
+    }
+
+    /**
+     * Counts how many numbers in an array fall into an interval, using counts computed beforehand.
+     * <p>Query from solution to exercise 8.2-4.</p>
+     *
+     * @param C the counts computed by {@link #parallelCumulativeCounts(IntArray, int)} for an array
+     * @param a the lower bound of the interval
+     * @param b the upper bound of the interval
+     * @return the number of elements from the array that fall into interval {@code a..b}
+     */
+    public static int countNumbersInRangeFromCounts(IntArray C, int a, int b) {
+        int k = C.length - 1;
+        a = max(a, 0);
+        b = min(b, k);
+        if (a > b) {
+            return 0;
+        }
+        return C.at(b + 1) - (a > 0 ? C.at(a) : 0);
+    }
+
+    private static int defaultNumberOfChunks(int n) {
+        return max(1, min(ForkJoinPool.getCommonPoolParallelism(), n / PARALLEL_COUNTING_SORT_THRESHOLD));
+    }
+
+    private static int[][] histograms(IntArray A, int k, int chunks) {
+        if (chunks < 1) {
+            throw new IllegalStateException("Invalid number of chunks");
+        }
+        int n = A.length;
+        int[][] C = new int[chunks][];
+        forEachChunk(chunks, t -> {
+            int[] histogram = new int[k + 1];
+            for (int j = chunkBeginning(n, chunks, t); j <= chunkEnd(n, chunks, t); j++) {
+                histogram[A.atUnchecked(j)]++;
+            }
+            C[t] = histogram;
+        });
+        return C;
+    }
+
+    private static int chunkBeginning(int n, int chunks, int t) {
+        return (int) ((long) n * t / chunks) + 1;
+    }
+
+    private static int chunkEnd(int n, int chunks, int t) {
+        return (int) ((long) n * (t + 1) / chunks);
+    }
+
     /**
      * Sorts elements using a non stable version of counting sort.
      * <p>Exercise 8.2-3.</p>
@@ -140,6 +308,37 @@ public final class Chapter8 {
         }
     }
 
+    /**
+     * Sorts elements using radix sort - a version for arrays of primitive values.
+     * <p><span style="font-variant:small-caps;">Radix-Sort</span> from subchapter 8.3.</p>
+     *
+     * @param A the array of elements to sort
+     * @param d the upper bound for number of digits of elements in {@code A}
+     */
+    public static void radixSort(IntArray A, int d) {
+        for (int i = 1; i <= d; i++) {
+            stableSortOnDigit(A, i, 10);
+        }
+    }
+
+    private static void stableSortOnDigit(IntArray A, int digit, int k) {
+        int[] C = new int[k];
+        IntArray digits = IntArray.ofLength(A.length);
+        for (int j = 1; j <= A.length; j++) {
+            digits.setUnchecked(j, getDigit(A.atUnchecked(j), digit, k));
+            C[digits.atUnchecked(j)]++;
+        }
+        for (int i = 1; i <= k - 1; i++) {
+            C[i] += C[i - 1];
+        }
+        IntArray B = IntArray.ofLength(A.length);
+        for (int j = A.length; j >= 1; j--) {
+            B.setUnchecked(C[digits.atUnchecked(j)], A.atUnchecked(j));
+            C[digits.atUnchecked(j)]--;
+        }
+        A.set(B);
+    }
+
     private static int getDigit(int number, int digit, int k) {
         while (digit > 1) {
             number /= k;
@@ -148,6 +347,141 @@ public final class Chapter8 {
         return number % k;
     }
 
+    /**
+     * The default number of bits in a digit used by {@link #binaryRadixSort(IntArray)} and {@link #binaryRadixSort(LongArray)}.
+     */
+    public static final int BINARY_RADIX_SORT_DIGIT_BITS = 11;
+
+    /**
+     * Sorts integers using radix sort on binary digits of {@link #BINARY_RADIX_SORT_DIGIT_BITS} bits.
+     * <p>Radix sort from subchapter 8.3 and Lemma 8.4.</p>
+     *
+     * @param A the array of integers to sort
+     */
+    public static void binaryRadixSort(IntArray A) {
+        binaryRadixSort(A, BINARY_RADIX_SORT_DIGIT_BITS);
+    }
+
+    /**
+     * Sorts integers using radix sort on {@code r}-bit binary digits in <tt>&Theta;((32/r)(n + 2<sup>r</sup>))</tt> time.
+     * Negative integers are handled by flipping the sign bit, so that the order of digits agrees with the order of integers.
+     * The counts of all digits are computed in a single scan, passes on digits that are equal in all integers are skipped,
+     * and the remaining passes move the integers back and forth between {@code A} and a single auxiliary array.
+     * <p>Radix sort from subchapter 8.3 and Lemma 8.4.</p>
+     *
+     * @param A the array of integers to sort
+     * @param r the number of bits in a digit, between 1 and 16
+     */
+    public static void binaryRadixSort(IntArray A, int r) {
+        int n = A.length;
+        if (n <= 1) {
+            return;
+        }
+        int passes = (Integer.SIZE + r - 1) / r;
+        int mask = (1 << r) - 1;
+        int[][] C = new int[passes][1 << r];
+        for (int j = 1; j <= n; j++) {
+            int key = A.atUnchecked(j) ^ Integer.MIN_VALUE;
+            for (int pass = 0; pass < passes; pass++) {
+                C[pass][(key >>> (pass * r)) & mask]++;
+            }
+        }
+        IntArray from = A;
+        IntArray to = null;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * r;
+            if (C[pass][((A.atUnchecked(1) ^ Integer.MIN_VALUE) >>> shift) & mask] == n) {
+                continue;
+            }
+            if (to == null) {
+                to = IntArray.ofLength(n);
+            }
+            int[] next = C[pass];
+            int position = 1;
+            for (int i = 0; i <= mask; i++) {
+                int count = next[i];
+                next[i] = position;
+                position += count;
+            }
+            for (int j = 1; j <= n; j++) {
+                int x = from.atUnchecked(j);
+                to.setUnchecked(next[((x ^ Integer.MIN_VALUE) >>> shift) & mask]++, x);
+            }
+            IntArray swap = from;
+            from = to;
+            to = swap;
+        }
+        if (from != A) {
+            for (int j = 1; j <= n; j++) {
+                A.setUnchecked(j, from.atUnchecked(j));
+            }
+        }
+    }
+
+    /**
+     * Sorts long integers using radix sort on binary digits of {@link #BINARY_RADIX_SORT_DIGIT_BITS} bits.
+     * <p>Radix sort from subchapter 8.3 and Lemma 8.4.</p>
+     *
+     * @param A the array of long integers to sort
+     */
+    public static void binaryRadixSort(LongArray A) {
+        binaryRadixSort(A, BINARY_RADIX_SORT_DIGIT_BITS);
+    }
+
+    /**
+     * Sorts long integers using radix sort on {@code r}-bit binary digits in <tt>&Theta;((64/r)(n + 2<sup>r</sup>))</tt> time.
+     * Works as {@link #binaryRadixSort(IntArray, int)}.
+     * <p>Radix sort from subchapter 8.3 and Lemma 8.4.</p>
+     *
+     * @param A the array of long integers to sort
+     * @param r the number of bits in a digit, between 1 and 16
+     */
+    public static void binaryRadixSort(LongArray A, int r) {
+        int n = A.length;
+        if (n <= 1) {
+            return;
+        }
+        int passes = (Long.SIZE + r - 1) / r;
+        int mask = (1 << r) - 1;
+        int[][] C = new int[passes][1 << r];
+        for (int j = 1; j <= n; j++) {
+            long key = A.atUnchecked(j) ^ Long.MIN_VALUE;
+            for (int pass = 0; pass < passes; pass++) {
+                C[pass][(int) (key >>> (pass * r)) & mask]++;
+            }
+        }
+        LongArray from = A;
+        LongArray to = null;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * r;
+            if (C[pass][(int) ((A.atUnchecked(1) ^ Long.MIN_VALUE) >>> shift) & mask] == n) {
+                continue;
+            }
+            if (to == null) {
+                to = LongArray.ofLength(n);
+            }
+            int[] next = C[pass];
+            int position = 1;
+            for (int i = 0; i <= mask; i++) {
+                int count = next[i];
+                next[i] = position;
+                position += count;
+            }
+            for (int j = 1; j <= n; j++) {
+                long x = from.atUnchecked(j);
+                to.setUnchecked(next[(int) ((x ^ Long.MIN_VALUE) >>> shift) & mask]++, x);
+            }
+            LongArray swap = from;
+            from = to;
+            to = swap;
+        }
+        if (from != A) {
+            for (int j = 1; j <= n; j++) {
+                A.setUnchecked(j, from.atUnchecked(j));
+            }
+        }
+    }
+
     /**
      * Sorts <tt>n</tt> integers from interval <tt>0..n<sup>2</sup> - 1</tt>.
      * <p>Solution to exercise 8.3-4.</p>
@@ -224,6 +558,52 @@ public final class Chapter8 {
         }
     }
 
+    /**
+     * Sorts elements using bucket sort - a version for arrays of primitive values.
+     * Instead of linked lists, the buckets are stored as consecutive subarrays of an auxiliary array,
+     * and buckets of at most {@link Fundamental#SORTING_NETWORK_MAX_LENGTH} elements are sorted using a sorting network.
+     * <p><span style="font-variant:small-caps;">Bucket-Sort</span> from subchapter 8.4.</p>
+     *
+     * @param A the array of elements to sort (numbers from the interval <tt>[0..1)</tt>)
+     */
+    public static void bucketSort(DoubleArray A) {
+        int n = A.length;
+        int[] C = new int[n + 1];
+        for (int i = 1; i <= n; i++) {
+            C[(int) (n * A.atUnchecked(i)) + 1]++;
+        }
+        for (int i = 1; i <= n; i++) {
+            C[i] += C[i - 1];
+        }
+        int[] next = C.clone();
+        DoubleArray B = DoubleArray.ofLength(n);
+        for (int i = 1; i <= n; i++) {
+            int bucket = (int) (n * A.atUnchecked(i));
+            next[bucket]++;
+            B.setUnchecked(next[bucket], A.atUnchecked(i));
+        }
+        for (int i = 0; i <= n - 1; i++) {
+            if (C[i + 1] - C[i] <= SORTING_NETWORK_MAX_LENGTH) {
+                sortingNetworkSort(B, C[i] + 1, C[i + 1]);
+            } else {
+                bucketInsertionSort(B, C[i] + 1, C[i + 1]);
+            }
+        }
+        A.set(B);
+    }
+
+    private static void bucketInsertionSort(DoubleArray A, int p, int r) {
+        for (int j = p + 1; j <= r; j++) {
+            double key = A.atUnchecked(j);
+            int i = j - 1;
+            while (i >= p && A.atUnchecked(i) > key) {
+                A.setUnchecked(i + 1, A.atUnchecked(i));
+                i--;
+            }
+            A.setUnchecked(i + 1, key);
+        }
+    }
+
     /**
      * Sorts points in the unit circle by distance from the origin.
      * <p>Solution to exercise 8.4-4.</p>
@@ -516,6 +896,264 @@ public final class Chapter8 {
         A.set(B);
     }
 
+    /**
+     * The default length of subarrays that {@link #parallelAmericanFlagSort(Array)}
+     * and {@link #parallelAmericanFlagSortOfByteArrays(Array)} sort in a single task.
+     */
+    public static final int PARALLEL_AMERICAN_FLAG_SORT_THRESHOLD = 8192;
+
+    private static final int AMERICAN_FLAG_SORT_RADIX = 257;
+
+    private static final int AMERICAN_FLAG_SORT_INSERTION_SORT_THRESHOLD = 32;
+
+    @FunctionalInterface
+    private interface KeyDigits<E> {
+
+        /**
+         * Returns a digit of a key.
+         *
+         * @param key the key
+         * @param d   the 0-based position of the digit
+         * @return {@code 0} if {@code key} has less than {@code d + 1} digits, otherwise {@code 1} plus the digit
+         * from {@code 0..255}
+         */
+        int digit(E key, int d);
+
+    }
+
+    /**
+     * Sorts strings in place using American flag sort - a most significant digit radix sort that moves strings directly
+     * into their buckets along cycles of the permutation instead of using an auxiliary array.
+     * Each character is treated as a single 8-bit digit if codes of all characters in {@code A} are from {@code 0..255},
+     * and as two 8-bit digits otherwise, so the strings are sorted in the order of {@link String#compareTo}.
+     * Buckets in which all strings have the same digit are not permuted,
+     * and buckets of at most 32 strings are sorted using insertion sort.
+     *
+     * @param A the array of strings to sort
+     */
+    public static void americanFlagSort(Array<String> A) {
+        americanFlagSort(A, 1, A.length, 0, stringDigits(A));
+    }
+
+    /**
+     * Sorts strings using American flag sort parallelized with the fork-join framework.
+     * Buckets longer than {@link #PARALLEL_AMERICAN_FLAG_SORT_THRESHOLD} are sorted in separate tasks.
+     *
+     * @param A the array of strings to sort
+     */
+    public static void parallelAmericanFlagSort(Array<String> A) {
+        parallelAmericanFlagSort(A, PARALLEL_AMERICAN_FLAG_SORT_THRESHOLD);
+    }
+
+    /**
+     * Sorts strings using American flag sort parallelized with the fork-join framework.
+     * Buckets longer than {@code threshold} are sorted in separate tasks.
+     *
+     * @param A         the array of strings to sort
+     * @param threshold the length of subarrays that are sorted in a single task
+     */
+    public static void parallelAmericanFlagSort(Array<String> A, int threshold) {
+        ForkJoinPool.commonPool().invoke(
+                new AmericanFlagSortTask<>(A, 1, A.length, 0, stringDigits(A), threshold, null));
+    }
+
+    /**
+     * Sorts byte arrays in place using American flag sort. The arrays are sorted lexicographically,
+     * treating bytes as unsigned numbers from {@code 0..255}.
+     * Buckets in which all arrays have the same byte are not permuted,
+     * and buckets of at most 32 arrays are sorted using insertion sort.
+     *
+     * @param A the array of byte arrays to sort
+     */
+    public static void americanFlagSortOfByteArrays(Array<byte[]> A) {
+        americanFlagSort(A, 1, A.length, 0, Chapter8::byteArrayDigit);
+    }
+
+    /**
+     * Sorts byte arrays using American flag sort parallelized with the fork-join framework.
+     * Buckets longer than {@link #PARALLEL_AMERICAN_FLAG_SORT_THRESHOLD} are sorted in separate tasks.
+     *
+     * @param A the array of byte arrays to sort
+     */
+    public static void parallelAmericanFlagSortOfByteArrays(Array<byte[]> A) {
+        parallelAmericanFlagSortOfByteArrays(A, PARALLEL_AMERICAN_FLAG_SORT_THRESHOLD);
+    }
+
+    /**
+     * Sorts byte arrays using American flag sort parallelized with the fork-join framework.
+     * Buckets longer than {@code threshold} are sorted in separate tasks.
+     *
+     * @param A         the array of byte arrays to sort
+     * @param threshold the length of subarrays that are sorted in a single task
+     */
+    public static void parallelAmericanFlagSortOfByteArrays(Array<byte[]> A, int threshold) {
+        ForkJoinPool.commonPool().invoke(
+                new AmericanFlagSortTask<>(A, 1, A.length, 0, Chapter8::byteArrayDigit, threshold, null));
+    }
+
+    private static KeyDigits<String> stringDigits(Array<String> A) {
+        for (int i = 1; i <= A.length; i++) {
+            String key = A.atUnchecked(i);
+            for (int j = 0; j < key.length(); j++) {
+                if (key.charAt(j) > 0xff) {
+                    return Chapter8::stringDigit;
+                }
+            }
+        }
+        return Chapter8::latin1StringDigit;
+    }
+
+    private static int latin1StringDigit(String key, int d) {
+        return d < key.length() ? 1 + key.charAt(d) : 0;
+    }
+
+    private static int stringDigit(String key, int d) {
+        if (d >= 2 * key.length()) {
+            return 0;
+        }
+        char c = key.charAt(d / 2);
+        return 1 + (d % 2 == 0 ? c >>> 8 : c & 0xff);
+    }
+
+    private static int byteArrayDigit(byte[] key, int d) {
+        return d < key.length ? 1 + (key[d] & 0xff) : 0;
+    }
+
+    private static <E> void americanFlagSort(Array<E> A, int p, int r, int d, KeyDigits<E> digits) {
+        while (r - p + 1 > AMERICAN_FLAG_SORT_INSERTION_SORT_THRESHOLD) {
+            int[] start = americanFlagPartition(A, p, r, d, digits);
+            int largest = largestBucket(start);
+            for (int b = 1; b < AMERICAN_FLAG_SORT_RADIX; b++) {
+                if (b != largest && start[b + 1] - start[b] > 1) {
+                    americanFlagSort(A, start[b], start[b + 1] - 1, d + 1, digits);
+                }
+            }
+            p = start[largest];
+            r = start[largest + 1] - 1;
+            d++;
+        }
+        insertionSortFromDigit(A, p, r, d, digits);
+    }
+
+    private static int largestBucket(int[] start) {
+        int largest = 1;
+        for (int b = 2; b < AMERICAN_FLAG_SORT_RADIX; b++) {
+            if (start[b + 1] - start[b] > start[largest + 1] - start[largest]) {
+                largest = b;
+            }
+        }
+        return largest;
+    }
+
+    private static <E> int[] americanFlagPartition(Array<E> A, int p, int r, int d, KeyDigits<E> digits) {
+        int[] start = new int[AMERICAN_FLAG_SORT_RADIX + 1];
+        for (int i = p; i <= r; i++) {
+            start[digits.digit(A.atUnchecked(i), d) + 1]++;
+        }
+        start[0] = p;
+        boolean singleBucket = false;
+        for (int b = 0; b < AMERICAN_FLAG_SORT_RADIX; b++) {
+            singleBucket |= start[b + 1] == r - p + 1;
+            start[b + 1] += start[b];
+        }
+        if (singleBucket) {
+            return start;
+        }
+        int[] next = start.clone();
+        for (int b = 0; b < AMERICAN_FLAG_SORT_RADIX; b++) {
+            while (next[b] < start[b + 1]) {
+                E x = A.atUnchecked(next[b]);
+                int c = digits.digit(x, d);
+                while (c != b) {
+                    E y = A.atUnchecked(next[c]);
+                    A.setUnchecked(next[c]++, x);
+                    x = y;
+                    c = digits.digit(x, d);
+                }
+                A.setUnchecked(next[b]++, x);
+            }
+        }
+        return start;
+    }
+
+    private static <E> void insertionSortFromDigit(Array<E> A, int p, int r, int d, KeyDigits<E> digits) {
+        for (int j = p + 1; j <= r; j++) {
+            E key = A.atUnchecked(j);
+            int i = j - 1;
+            while (i >= p && lessFromDigit(key, A.atUnchecked(i), d, digits)) {
+                A.setUnchecked(i + 1, A.atUnchecked(i));
+                i--;
+            }
+            A.setUnchecked(i + 1, key);
+        }
+    }
+
+    private static <E> boolean lessFromDigit(E key1, E key2, int d, KeyDigits<E> digits) {
+        while (true) {
+            int digit1 = digits.digit(key1, d);
+            int digit2 = digits.digit(key2, d);
+            if (digit1 != digit2 || digit1 == 0) {
+                return digit1 < digit2;
+            }
+            d++;
+        }
+    }
+
+    private static final class AmericanFlagSortTask<E> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Array<E> A;
+        private final int p;
+        private final int r;
+        private final int d;
+        private final KeyDigits<E> digits;
+        private final int threshold;
+        private final AmericanFlagSortTask<E> next;
+
+        AmericanFlagSortTask(Array<E> A, int p, int r, int d, KeyDigits<E> digits, int threshold,
+                             AmericanFlagSortTask<E> next) {
+            this.A = A;
+            this.p = p;
+            this.r = r;
+            this.d = d;
+            this.digits = digits;
+            this.threshold = threshold;
+            this.next = next;
+        }
+
+        @Override
+        protected void compute() {
+            int p = this.p;
+            int r = this.r;
+            int d = this.d;
+            AmericanFlagSortTask<E> forked = null;
+            while (r - p + 1 > threshold) {
+                int[] start = americanFlagPartition(A, p, r, d, digits);
+                int largest = largestBucket(start);
+                for (int b = 1; b < AMERICAN_FLAG_SORT_RADIX; b++) {
+                    if (b == largest) {
+                        continue;
+                    }
+                    if (start[b + 1] - start[b] > threshold) {
+                        forked = new AmericanFlagSortTask<>(A, start[b], start[b + 1] - 1, d + 1, digits, threshold, forked);
+                        forked.fork();
+                    } else if (start[b + 1] - start[b] > 1) {
+                        americanFlagSort(A, start[b], start[b + 1] - 1, d + 1, digits);
+                    }
+                }
+                p = start[largest];
+                r = start[largest + 1] - 1;
+                d++;
+            }
+            americanFlagSort(A, p, r, d, digits);
+            while (forked != null) {
+                forked.join();
+                forked = forked.next;
+            }
+        }
+    }
+
     /**
      * Permutes two arrays so that they are identical to each other, by comparing elements only between arrays.
      * <p>Solution to problem 8-4(a).</p>
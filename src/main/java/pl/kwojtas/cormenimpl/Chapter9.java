@@ -1,6 +1,7 @@
 package pl.kwojtas.cormenimpl;
 
 import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
 import pl.kwojtas.cormenimpl.datastructure.Pair;
 import pl.kwojtas.cormenimpl.datastructure.Point2D;
 import pl.kwojtas.cormenimpl.datastructure.ZeroBasedIndexedArray;
@@ -245,8 +246,127 @@ public final class Chapter9 {
         }
     }
 
+    private static final int FLOYD_RIVEST_SAMPLING_THRESHOLD = 600;
+
+    /**
+     * Finds the {@code i}-th order statistic (the {@code i}-th smallest element) in an array using the Floyd-Rivest
+     * algorithm, which makes <tt>n + min(i, n - i) + o(n)</tt> comparisons in expectation.
+     * In a subarray longer than 600 elements, the algorithm first recursively selects from a sample of about
+     * <tt>n<sup>2/3</sup></tt> elements, around the position of the {@code i}-th order statistic shifted slightly
+     * towards the nearer end, an element that is with high probability only a little smaller or larger than the
+     * {@code i}-th order statistic. Then it partitions the subarray around that element, so that the order statistic is
+     * searched further only in a short subarray. Subarrays are partitioned as in Hoare's partitioning.
+     * After the call, the {@code i}-th order statistic is at position {@code p + i - 1} of {@code A}, the elements
+     * before it are not greater and the elements after it are not smaller than it.
+     * <p>Algorithm 489 (SELECT) by R. W. Floyd and R. L. Rivest.</p>
+     *
+     * @param A   the array to scan
+     * @param p   the index of the beginning of subarray in {@code A} being scanned
+     * @param r   the index of the end of subarray in {@code A} being scanned
+     * @param i   the number of order statistic to find (1 - the smallest element)
+     * @param <E> the type of elements in {@code A}
+     * @return the {@code i}-th order statistic (the {@code i}-th smallest element) in {@code A}
+     */
+    public static <E extends Comparable<? super E>> E floydRivestSelect(Array<E> A, int p, int r, int i) {
+        int k = p + i - 1;
+        floydRivestSelectAt(A, p, r, k);
+        return A.at(k);
+    }
+
+    private static <E extends Comparable<? super E>> void floydRivestSelectAt(Array<E> A, int p, int r, int k) {
+        while (r > p) {
+            if (r - p > FLOYD_RIVEST_SAMPLING_THRESHOLD) {
+                int n = r - p + 1;
+                int i = k - p + 1;
+                double z = Math.log(n);
+                double s = 0.5 * Math.exp(2 * z / 3);
+                double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2.0);
+                int sampleP = (int) Math.max(p, Math.floor(k - i * s / n + sd));
+                int sampleR = (int) Math.min(r, Math.floor(k + (n - i) * s / n + sd));
+                floydRivestSelectAt(A, sampleP, sampleR, k);
+            }
+            E x = A.at(k);
+            A.exch(p, k);
+            if (greater(A.at(r), x)) {
+                A.exch(p, r);
+            }
+            int i = p;
+            int j = r;
+            while (i < j) {
+                A.exchUnchecked(i, j);
+                i++;
+                j--;
+                while (less(A.atUnchecked(i), x)) {
+                    i++;
+                }
+                while (greater(A.atUnchecked(j), x)) {
+                    j--;
+                }
+            }
+            if (!less(A.at(p), x)) {
+                A.exch(p, j);
+            } else {
+                j++;
+                A.exch(j, r);
+            }
+            if (j <= k) {
+                p = j + 1;
+            }
+            if (k <= j) {
+                r = j - 1;
+            }
+        }
+    }
+
+    /**
+     * Finds many order statistics in an array at once.
+     * The middle of the requested order statistics is found using {@link #floydRivestSelect(Array, int, int, int)},
+     * which partitions the subarray around it, and the order statistics smaller and larger than it are found
+     * recursively in the parts of the subarray before and after it. Finding {@code m} order statistics takes
+     * <tt>O(n lg m)</tt> time, and the subarrays searched for different order statistics are never scanned again.
+     * After the call, each order statistic is at its position in {@code A}, as if {@code A} was sorted,
+     * and the subarrays between them are partitioned accordingly.
+     *
+     * @param A     the array to scan
+     * @param p     the index of the beginning of subarray in {@code A} being scanned
+     * @param r     the index of the end of subarray in {@code A} being scanned
+     * @param ranks the numbers of order statistics to find (1 - the smallest element), in nondecreasing order
+     * @param <E>   the type of elements in {@code A}
+     * @return the array of order statistics, containing at the {@code j}-th position the {@code ranks[j]}-th smallest
+     * element in {@code A}
+     */
+    public static <E extends Comparable<? super E>> Array<E> multiSelect(Array<E> A, int p, int r, IntArray ranks) {
+        multiSelect(A, p, r, ranks, 1, ranks.length, p);
+        Array<E> orderStatistics = Array.ofLength(ranks.length);
+        for (int j = 1; j <= ranks.length; j++) {
+            orderStatistics.set(j, A.at(p + ranks.at(j) - 1));
+        }
+        return orderStatistics;
+    }
+
+    private static <E extends Comparable<? super E>> void multiSelect(Array<E> A, int p, int r, IntArray ranks, int first, int last, int offset) {
+        if (first > last || p > r) {
+            return;
+        }
+        int middle = (first + last) >>> 1;
+        int k = offset + ranks.at(middle) - 1;
+        floydRivestSelectAt(A, p, r, k);
+        int below = middle - 1;
+        while (below >= first && offset + ranks.at(below) - 1 == k) {
+            below--;
+        }
+        int above = middle + 1;
+        while (above <= last && offset + ranks.at(above) - 1 == k) {
+            above++;
+        }
+        multiSelect(A, p, k - 1, ranks, first, below, offset);
+        multiSelect(A, k + 1, r, ranks, above, last, offset);
+    }
+
     /**
      * Finds quantiles of a set.
+     * The ranks of all quantiles are computed first and the quantiles are found at once
+     * using {@link #multiSelect(Array, int, int, IntArray)}.
      * <p><span style="font-variant:small-caps;">Quantiles</span> from solution to exercise 9.3-6.</p>
      *
      * @param A   the array containing elements of the set
@@ -258,25 +378,27 @@ public final class Chapter9 {
      */
     public static <E extends Comparable<? super E>> Set<E> quantiles(Array<E> A, int p, int r, int k) {
         int n = r - p + 1;
-        if (k == 1) {
-            return new HashSet<>();
-        }
-        int q1 = (int) (p + (k / 2) * (1.0 * n / k));
-        int q2 = (int) (p + ceil(k, 2) * (1.0 * n / k));
-        select(A, p, r, q1 - p + 1);
-        if (q1 != q2) {
-            select(A, q1 + 1, r, q2 - q1);
-        }
-        Set<E> L = quantiles(A, p, q1 - 1, k / 2);
-        Set<E> R = quantiles(A, q2 + 1, r, k / 2);
-        L.add(A.at(q1));
-        L.add(A.at(q2));
-        L.addAll(R);
-        return L;
+        Set<E> Q = new HashSet<>();
+        if (k <= 1) {
+            return Q;
+        }
+        IntArray ranks = IntArray.ofLength(k - 1);
+        for (int j = 1; j <= k - 1; j++) {
+            ranks.set(j, (int) (((long) j * n + k - 1) / k));
+        }
+        Array<E> orderStatistics = multiSelect(A, p, r, ranks);
+        for (int j = 1; j <= orderStatistics.length; j++) {
+            Q.add(orderStatistics.at(j));
+        }
+        return Q;
     }
 
     /**
      * Finds elements closest to the median of a set.
+     * The {@code k} elements closest to the median are among the elements from the {@code k - 1} positions before to
+     * the {@code k - 1} positions after the median in sorted order, so these positions and the median are found at once
+     * using {@link #multiSelect(Array, int, int, IntArray)}, which leaves the elements between them in the subarray
+     * between them, and only these elements are scanned further.
      * <p><span style="font-variant:small-caps;">Median-Proximity</span> from solution to exercise 9.3-7.</p>
      *
      * @param A the array containing elements of the set
@@ -285,14 +407,17 @@ public final class Chapter9 {
      */
     public static Set<Integer> medianProximity(Array<Integer> A, int k) {
         int n = A.length;
-        int x = select(A, 1, n, (n + 1) / 2);
-        Array<Integer> dist = Array.ofLength(n);
-        for (int i = 1; i <= n; i++) {
-            dist.set(i, abs(A.at(i) - x));
-        }
-        int y = select(dist, 1, n, k);
+        int m = (n + 1) / 2;
+        int p = Math.max(1, m - k + 1);
+        int r = Math.min(n, m + k - 1);
+        int x = multiSelect(A, 1, n, IntArray.of(p, m, r)).at(2);
+        Array<Integer> dist = Array.ofLength(r - p + 1);
+        for (int i = p; i <= r; i++) {
+            dist.set(i - p + 1, abs(A.at(i) - x));
+        }
+        int y = floydRivestSelect(dist, 1, dist.length, k);
         Set<Integer> M = new HashSet<>();
-        for (int i = 1; i <= n; i++) {
+        for (int i = p; i <= r; i++) {
             if (abs(A.at(i) - x) <= y) {
                 M.add(A.at(i));
             }
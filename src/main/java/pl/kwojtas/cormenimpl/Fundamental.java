@@ -1,6 +1,12 @@
 package pl.kwojtas.cormenimpl;
 
-import java.util.Random;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.DoubleArray;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
 
 /**
  * The utility class containing useful simple procedures.
@@ -10,8 +16,6 @@ public class Fundamental {
     private Fundamental() {
     }
 
-    private static Random rand = new Random(System.currentTimeMillis());
-
     /**
      * Checks if one value is less than another value.
      *
@@ -21,6 +25,9 @@ public class Fundamental {
      * @return {@code true} if {@code a < b}, or {@code false} otherwise
      */
     public static <E> boolean less(Comparable<? super E> a, E b) {
+        if (Instrumentation.ENABLED) {
+            Instrumentation.countComparison();
+        }
         return a.compareTo(b) < 0;
     }
 
@@ -33,6 +40,9 @@ public class Fundamental {
      * @return {@code true} if {@code a <= b}, or {@code false} otherwise
      */
     public static <E> boolean leq(Comparable<? super E> a, E b) {
+        if (Instrumentation.ENABLED) {
+            Instrumentation.countComparison();
+        }
         return a.compareTo(b) <= 0;
     }
 
@@ -45,6 +55,9 @@ public class Fundamental {
      * @return {@code true} if {@code a > b}, or {@code false} otherwise
      */
     public static <E> boolean greater(Comparable<? super E> a, E b) {
+        if (Instrumentation.ENABLED) {
+            Instrumentation.countComparison();
+        }
         return a.compareTo(b) > 0;
     }
 
@@ -57,6 +70,9 @@ public class Fundamental {
      * @return {@code true} if {@code a >= b}, or {@code false} otherwise
      */
     public static <E> boolean geq(Comparable<? super E> a, E b) {
+        if (Instrumentation.ENABLED) {
+            Instrumentation.countComparison();
+        }
         return a.compareTo(b) >= 0;
     }
 
@@ -85,12 +101,122 @@ public class Fundamental {
     }
 
     /**
-     * Returns a bit at random.
+     * The maximum length of subarrays that can be sorted using sorting networks.
+     */
+    public static final int SORTING_NETWORK_MAX_LENGTH = 16;
+
+    private static final int[][] SORTING_NETWORKS = new int[SORTING_NETWORK_MAX_LENGTH + 1][];
+
+    static {
+        for (int n = 0; n <= SORTING_NETWORK_MAX_LENGTH; n++) {
+            SORTING_NETWORKS[n] = oddEvenMergeSortingNetwork(n);
+        }
+    }
+
+    private static int[] oddEvenMergeSortingNetwork(int n) {
+        int[] comparators = new int[2 * SORTING_NETWORK_MAX_LENGTH * SORTING_NETWORK_MAX_LENGTH];
+        int length = 0;
+        for (int p = 1; p < SORTING_NETWORK_MAX_LENGTH; p *= 2) {
+            for (int k = p; k >= 1; k /= 2) {
+                for (int j = k % p; j + k < n; j += 2 * k) {
+                    for (int i = 0; i < k && i + j + k < n; i++) {
+                        if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+                            comparators[length++] = i + j;
+                            comparators[length++] = i + j + k;
+                        }
+                    }
+                }
+            }
+        }
+        int[] network = new int[length];
+        System.arraycopy(comparators, 0, network, 0, length);
+        return network;
+    }
+
+    /**
+     * Sorts a short subarray using a sorting network - a fixed sequence of comparators, each of which puts two elements
+     * in order. The comparators are those of Batcher's odd-even merge sorting network. The sort is not stable.
+     *
+     * @param A   the array of elements to sort
+     * @param p   the index of the beginning of subarray in {@code A} being sorted
+     * @param r   the index of the end of subarray in {@code A} being sorted,
+     *            at most {@code p + }{@link #SORTING_NETWORK_MAX_LENGTH}{@code  - 1}
+     * @param <E> the type of elements in {@code A}
+     */
+    public static <E extends Comparable<? super E>> void sortingNetworkSort(Array<E> A, int p, int r) {
+        if (r <= p) {
+            return;
+        }
+        int[] network = SORTING_NETWORKS[r - p + 1];
+        for (int c = 0; c < network.length; c += 2) {
+            int i = p + network[c];
+            int j = p + network[c + 1];
+            E a = A.atUnchecked(i);
+            E b = A.atUnchecked(j);
+            if (greater(a, b)) {
+                A.setUnchecked(i, b);
+                A.setUnchecked(j, a);
+            }
+        }
+    }
+
+    /**
+     * Sorts a short subarray using a sorting network - a version for arrays of primitive values.
+     * The comparators are performed without branching on the results of comparisons.
+     *
+     * @param A the array of elements to sort
+     * @param p the index of the beginning of subarray in {@code A} being sorted
+     * @param r the index of the end of subarray in {@code A} being sorted,
+     *          at most {@code p + }{@link #SORTING_NETWORK_MAX_LENGTH}{@code  - 1}
+     */
+    public static void sortingNetworkSort(IntArray A, int p, int r) {
+        if (r <= p) {
+            return;
+        }
+        int[] network = SORTING_NETWORKS[r - p + 1];
+        for (int c = 0; c < network.length; c += 2) {
+            int i = p + network[c];
+            int j = p + network[c + 1];
+            int a = A.atUnchecked(i);
+            int b = A.atUnchecked(j);
+            A.setUnchecked(i, Math.min(a, b));
+            A.setUnchecked(j, Math.max(a, b));
+        }
+    }
+
+    /**
+     * Sorts a short subarray using a sorting network - a version for arrays of primitive values.
+     * The comparators are performed without branching on the results of comparisons.
+     *
+     * @param A the array of elements to sort
+     * @param p the index of the beginning of subarray in {@code A} being sorted
+     * @param r the index of the end of subarray in {@code A} being sorted,
+     *          at most {@code p + }{@link #SORTING_NETWORK_MAX_LENGTH}{@code  - 1}
+     */
+    public static void sortingNetworkSort(DoubleArray A, int p, int r) {
+        if (r <= p) {
+            return;
+        }
+        int[] network = SORTING_NETWORKS[r - p + 1];
+        for (int c = 0; c < network.length; c += 2) {
+            int i = p + network[c];
+            int j = p + network[c + 1];
+            double a = A.atUnchecked(i);
+            double b = A.atUnchecked(j);
+            boolean exchange = a > b;
+            A.setUnchecked(i, exchange ? b : a);
+            A.setUnchecked(j, exchange ? a : b);
+        }
+    }
+
+    /**
+     * Returns a bit at random, drawn from the source of the current thread.
      *
      * @return {@code 0} or {@code 1} at random
+     * @see Randomness#current()
      */
     public static int random() {
-        return rand.nextBoolean() ? 1 : 0;
+        return Randomness.current().nextBit();
     }
 
     /**
@@ -104,4 +230,45 @@ public class Fundamental {
         return a / b + (a % b == 0 ? 0 : 1);
     }
 
+    /**
+     * Performs an action for each of a number of chunks, in parallel with the fork-join framework.
+     * The range of chunks is split in halves recursively, so that the action is performed for every chunk in a separate
+     * task. A single chunk is handled in the calling thread.
+     *
+     * @param chunks the number of chunks, at least {@code 1}
+     * @param action the action performed for each chunk, receiving the 0-based number of the chunk
+     */
+    static void forEachChunk(int chunks, IntConsumer action) {
+        if (chunks == 1) {
+            action.accept(0);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ChunksTask(0, chunks - 1, action));
+        }
+    }
+
+    private static final class ChunksTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int first;
+        private final int last;
+        private final IntConsumer action;
+
+        ChunksTask(int first, int last, IntConsumer action) {
+            this.first = first;
+            this.last = last;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (first == last) {
+                action.accept(first);
+                return;
+            }
+            int middle = (first + last) / 2;
+            invokeAll(new ChunksTask(first, middle, action), new ChunksTask(middle + 1, last, action));
+        }
+    }
+
 }
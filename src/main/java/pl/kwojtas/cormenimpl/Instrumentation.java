@@ -0,0 +1,185 @@
+package pl.kwojtas.cormenimpl;
+
+import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.InstrumentedArray;
+import pl.kwojtas.cormenimpl.datastructure.InstrumentedHeap;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Counts operations performed by algorithms, to show how they behave on particular inputs.
+ * <p>Comparisons made with {@link Fundamental#less}, {@link Fundamental#leq}, {@link Fundamental#greater} and
+ * {@link Fundamental#geq}, and allocations of {@link Array}s, are counted only if the system property
+ * {@value #PROPERTY} is set to {@code true} at startup. Otherwise the checks guarding them are constant and are removed
+ * by the compiler, so the procedures cost nothing more. Reads, writes and exchanges are counted by arrays and heaps
+ * wrapped in {@link InstrumentedArray} and {@link InstrumentedHeap}.</p>
+ * <p>Operations are counted only during {@link #measure(Runnable)}. One measurement is performed at a time, and the
+ * operations of all threads are counted, so that parallel algorithms can be measured as well.</p>
+ * <p>The property is meant for tests and experiments only, and must not be set in production. When it is set, every
+ * comparison reads a volatile field to check whether a measurement is running, even outside {@link #measure(Runnable)},
+ * which makes comparison sorts noticeably slower - introsort of a million {@link Integer}s takes about a third more
+ * time.</p>
+ */
+public final class Instrumentation {
+
+    private Instrumentation() {
+    }
+
+    /**
+     * The system property enabling counting comparisons and allocations.
+     */
+    public static final String PROPERTY = "pl.kwojtas.cormenimpl.instrumentation";
+
+    /**
+     * {@code true} if counting comparisons and allocations is enabled.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    /**
+     * Implements counts of operations performed during a measurement.
+     */
+    public static final class OperationCounts {
+
+        private final LongAdder comparisons = new LongAdder();
+        private final LongAdder reads = new LongAdder();
+        private final LongAdder writes = new LongAdder();
+        private final LongAdder exchanges = new LongAdder();
+        private final LongAdder allocations = new LongAdder();
+
+        private OperationCounts() {
+        }
+
+        /**
+         * Returns the number of comparisons.
+         *
+         * @return the number of comparisons
+         */
+        public long getComparisons() {
+            return comparisons.sum();
+        }
+
+        /**
+         * Returns the number of reads of elements of instrumented arrays.
+         *
+         * @return the number of reads
+         */
+        public long getReads() {
+            return reads.sum();
+        }
+
+        /**
+         * Returns the number of writes of elements of instrumented arrays.
+         *
+         * @return the number of writes
+         */
+        public long getWrites() {
+            return writes.sum();
+        }
+
+        /**
+         * Returns the number of exchanges of elements of instrumented arrays.
+         *
+         * @return the number of exchanges
+         */
+        public long getExchanges() {
+            return exchanges.sum();
+        }
+
+        /**
+         * Returns the number of allocated arrays.
+         *
+         * @return the number of allocations
+         */
+        public long getAllocations() {
+            return allocations.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "comparisons=" + getComparisons() + ", reads=" + getReads() + ", writes=" + getWrites()
+                    + ", exchanges=" + getExchanges() + ", allocations=" + getAllocations();
+        }
+
+    }
+
+    private static volatile OperationCounts current;
+
+    /**
+     * Counts operations performed by an action.
+     *
+     * @param action the action to measure
+     * @return the counts of operations performed by {@code action}
+     */
+    public static synchronized OperationCounts measure(Runnable action) {
+        OperationCounts counts = new OperationCounts();
+        current = counts;
+        try {
+            action.run();
+        } finally {
+            current = null;
+        }
+        return counts;
+    }
+
+    /**
+     * Counts operations performed by an action and passes the counts to a callback.
+     *
+     * @param action   the action to measure
+     * @param callback the callback receiving the counts of operations performed by {@code action}
+     */
+    public static void measure(Runnable action, Consumer<OperationCounts> callback) {
+        callback.accept(measure(action));
+    }
+
+    /**
+     * Records a comparison.
+     */
+    public static void countComparison() {
+        OperationCounts counts = current;
+        if (counts != null) {
+            counts.comparisons.increment();
+        }
+    }
+
+    /**
+     * Records a read of an element.
+     */
+    public static void countRead() {
+        OperationCounts counts = current;
+        if (counts != null) {
+            counts.reads.increment();
+        }
+    }
+
+    /**
+     * Records a write of an element.
+     */
+    public static void countWrite() {
+        OperationCounts counts = current;
+        if (counts != null) {
+            counts.writes.increment();
+        }
+    }
+
+    /**
+     * Records an exchange of elements.
+     */
+    public static void countExchange() {
+        OperationCounts counts = current;
+        if (counts != null) {
+            counts.exchanges.increment();
+        }
+    }
+
+    /**
+     * Records an allocation of an array.
+     */
+    public static void countAllocation() {
+        OperationCounts counts = current;
+        if (counts != null) {
+            counts.allocations.increment();
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+package pl.kwojtas.cormenimpl;
+
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+
+/**
+ * Provides the sources of random numbers used by the randomized algorithms.
+ * <p>Every thread draws numbers from its own source, so that threads running randomized algorithms in parallel do not
+ * contend for a shared generator. The sources are created by a pluggable factory from seeds generated by a root
+ * generator, which is seeded with a global seed - taken from the system property {@value #PROPERTY} if it is set at
+ * startup, and from the clock otherwise. After {@link #setSeed(long)} a thread draws the same numbers as after any
+ * other call with the same seed, as long as threads first use their sources in the same order, so single-threaded runs
+ * can be reproduced.</p>
+ */
+public final class Randomness {
+
+    private Randomness() {
+    }
+
+    /**
+     * The system property setting the global seed.
+     */
+    public static final String PROPERTY = "pl.kwojtas.cormenimpl.seed";
+
+    /**
+     * Implements a source of random numbers used by a single thread.
+     */
+    @FunctionalInterface
+    public interface Source {
+
+        /**
+         * Returns a random number with all 64 bits chosen uniformly at random.
+         *
+         * @return a random {@code long}
+         */
+        long nextLong();
+
+        /**
+         * Returns a bit at random.
+         *
+         * @return {@code 0} or {@code 1} at random
+         */
+        default int nextBit() {
+            return (int) (nextLong() >>> 63);
+        }
+
+        /**
+         * Returns a number from an interval chosen uniformly at random.
+         * The number is formed of the <tt>&lceil;lg(b - a + 1)&rceil;</tt> highest bits of random {@code long}s,
+         * which are drawn until the number falls into the interval.
+         *
+         * @param a the lower bound of the interval
+         * @param b the upper bound of the interval
+         * @return a number from {@code a..b} chosen uniformly at random, or {@code a} if {@code a >= b}
+         */
+        default int nextInt(int a, int b) {
+            if (a >= b) {
+                return a;
+            }
+            long range = (long) b - a + 1;
+            int shift = Long.numberOfLeadingZeros(range - 1);
+            long r;
+            do {
+                r = nextLong() >>> shift;
+            } while (r >= range);
+            return (int) (a + r);
+        }
+
+        /**
+         * Returns a number from the interval <tt>[0..1)</tt> chosen uniformly at random.
+         *
+         * @return a random {@code double} from <tt>[0..1)</tt>
+         */
+        default double nextDouble() {
+            return (nextLong() >>> 11) * 0x1.0p-53;
+        }
+
+    }
+
+    /**
+     * Implements the xoroshiro128++ generator, which has a state of two {@code long}s and a period of
+     * <tt>2<sup>128</sup> - 1</tt>.
+     */
+    public static final class Xoroshiro128PlusPlus implements Source {
+
+        private long s0;
+        private long s1;
+
+        /**
+         * Creates a generator whose state is given by two {@code long}s, not both equal to {@code 0}.
+         *
+         * @param s0 the first part of the state
+         * @param s1 the second part of the state
+         */
+        public Xoroshiro128PlusPlus(long s0, long s1) {
+            this.s0 = s0;
+            this.s1 = s1;
+        }
+
+        /**
+         * Creates a generator whose state is generated from a seed using the SplitMix64 generator.
+         *
+         * @param seed the seed
+         */
+        public Xoroshiro128PlusPlus(long seed) {
+            this(mix64(seed + GOLDEN_GAMMA), mix64(seed + 2 * GOLDEN_GAMMA));
+        }
+
+        @Override
+        public long nextLong() {
+            long s0 = this.s0;
+            long s1 = this.s1;
+            long result = Long.rotateLeft(s0 + s1, 17) + s0;
+            s1 ^= s0;
+            this.s0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+            this.s1 = Long.rotateLeft(s1, 28);
+            return result;
+        }
+
+    }
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * The factory creating sources backed by {@link SplittableRandom}.
+     */
+    public static final LongFunction<Source> SPLITTABLE_RANDOM = seed -> new SplittableRandom(seed)::nextLong;
+
+    /**
+     * The factory creating sources backed by {@link Xoroshiro128PlusPlus}.
+     */
+    public static final LongFunction<Source> XOROSHIRO128_PLUS_PLUS = Xoroshiro128PlusPlus::new;
+
+    private static final class ThreadSource {
+
+        private final int generation;
+        private final Source source;
+
+        private ThreadSource(int generation, Source source) {
+            this.generation = generation;
+            this.source = source;
+        }
+
+    }
+
+    private static final ThreadLocal<ThreadSource> THREAD_SOURCES = new ThreadLocal<>();
+
+    private static long seed = Long.getLong(PROPERTY, mix64(System.currentTimeMillis() ^ System.nanoTime()));
+    private static LongFunction<Source> factory = SPLITTABLE_RANDOM;
+    private static SplittableRandom root = new SplittableRandom(seed);
+    private static volatile int generation;
+
+    /**
+     * Returns the source of random numbers of the current thread.
+     * The source must not be passed to other threads.
+     *
+     * @return the source of the current thread
+     */
+    public static Source current() {
+        ThreadSource threadSource = THREAD_SOURCES.get();
+        if (threadSource == null || threadSource.generation != generation) {
+            threadSource = newThreadSource();
+            THREAD_SOURCES.set(threadSource);
+        }
+        return threadSource.source;
+    }
+
+    private static synchronized ThreadSource newThreadSource() {
+        return new ThreadSource(generation, factory.apply(root.nextLong()));
+    }
+
+    /**
+     * Returns the global seed.
+     *
+     * @return the global seed
+     */
+    public static synchronized long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the global seed, so that every thread gets a new source the next time it draws a number.
+     *
+     * @param seed the new global seed
+     */
+    public static synchronized void setSeed(long seed) {
+        Randomness.seed = seed;
+        reset();
+    }
+
+    /**
+     * Sets the factory creating sources from seeds, and restarts generating the seeds from the global seed,
+     * so that every thread gets a new source the next time it draws a number.
+     *
+     * @param factory the factory creating a source from a seed, such as {@link #SPLITTABLE_RANDOM} or
+     *                {@link #XOROSHIRO128_PLUS_PLUS}
+     */
+    public static synchronized void setSourceFactory(LongFunction<Source> factory) {
+        Randomness.factory = factory;
+        reset();
+    }
+
+    private static void reset() {
+        root = new SplittableRandom(seed);
+        generation++;
+    }
+
+}
@@ -0,0 +1,289 @@
+package pl.kwojtas.cormenimpl;
+
+import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static pl.kwojtas.cormenimpl.Fundamental.greater;
+import static pl.kwojtas.cormenimpl.Fundamental.less;
+
+/**
+ * The single entry point for sorting arrays, which chooses one of the sorts implemented in the other chapters
+ * by looking at the input first.
+ * <p>The input is examined in time independent of its length, except for arrays of {@link Integer}s, whose minimum and
+ * maximum are found in a single scan. Adjacent pairs of elements are sampled at evenly spaced positions to estimate
+ * how sorted the input is, and elements are sampled the same way to estimate the ratio of duplicates. The choice is
+ * deterministic, so the same input is always sorted by the same algorithm.</p>
+ */
+public final class Sorting {
+
+    private Sorting() {
+    }
+
+    /**
+     * The maximum length of arrays that are sorted using insertion sort.
+     */
+    public static final int INSERTION_SORT_MAX_LENGTH = 16;
+
+    /**
+     * The number of adjacent pairs, and the number of elements, sampled from the input.
+     */
+    public static final int SAMPLE_SIZE = 128;
+
+    /**
+     * The maximum number of values spanned by keys of arrays of integers that are sorted using counting sort,
+     * so that the counts fit in a processor cache.
+     */
+    public static final int COUNTING_SORT_MAX_RANGE = 65536;
+
+    /**
+     * The minimum length of arrays of integers with a wide range of keys that are sorted using radix sort.
+     */
+    public static final int RADIX_SORT_MIN_LENGTH = 512;
+
+    /**
+     * The minimum length of arrays that are sorted in parallel, if the common fork-join pool has more than one thread.
+     */
+    public static final int PARALLEL_SORT_MIN_LENGTH = 65536;
+
+    /**
+     * The sorting algorithms that can be chosen.
+     */
+    public enum Algorithm {
+
+        /**
+         * {@link Chapter2#insertionSort(Array)}.
+         */
+        INSERTION_SORT,
+
+        /**
+         * {@link Chapter2#adaptiveMergeSort(Array, int, int)}.
+         */
+        ADAPTIVE_MERGE_SORT,
+
+        /**
+         * {@link Chapter8#countingSort(IntArray, IntArray, int)} on keys shifted by the minimum key.
+         */
+        COUNTING_SORT,
+
+        /**
+         * {@link Chapter8#binaryRadixSort(IntArray)}.
+         */
+        RADIX_SORT,
+
+        /**
+         * {@link Chapter7#introsort(Array)}.
+         */
+        INTROSORT,
+
+        /**
+         * {@link Chapter7#parallelQuicksort(Array, int, int)}.
+         */
+        PARALLEL_QUICKSORT
+
+    }
+
+    /**
+     * Implements the record of the algorithm chosen for an input and the reason of the choice.
+     */
+    public static final class Decision {
+
+        private final Algorithm algorithm;
+        private final String reason;
+        private final int min;
+        private final int max;
+
+        private Decision(Algorithm algorithm, String reason) {
+            this(algorithm, reason, 0, 0);
+        }
+
+        private Decision(Algorithm algorithm, String reason, int min, int max) {
+            this.algorithm = algorithm;
+            this.reason = reason;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Returns the chosen algorithm.
+         *
+         * @return the chosen algorithm
+         */
+        public Algorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        /**
+         * Returns the reason of choosing the algorithm.
+         *
+         * @return the description of the properties of the input that determined the choice
+         */
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return algorithm + ": " + reason;
+        }
+
+    }
+
+    /**
+     * Sorts elements using the algorithm that is expected to be the cheapest for the input.
+     * <ul>
+     * <li>Arrays of at most {@link #INSERTION_SORT_MAX_LENGTH} elements are sorted using insertion sort.</li>
+     * <li>Arrays in which few of the sampled adjacent pairs are out of order, or few are in order, consist of few
+     * long runs and are sorted using adaptive merge sort.</li>
+     * <li>Arrays of integers whose keys span at most as many values as there are elements, and at most
+     * {@link #COUNTING_SORT_MAX_RANGE} values, are sorted using counting sort.</li>
+     * <li>Other arrays of at least {@link #RADIX_SORT_MIN_LENGTH} integers are sorted using radix sort.</li>
+     * <li>Arrays in which at most a quarter of the sampled elements are distinct are sorted using introsort,
+     * whose three-way partitioning excludes the duplicates from further sorting.</li>
+     * <li>Other arrays of at least {@link #PARALLEL_SORT_MIN_LENGTH} elements are sorted using parallel quicksort,
+     * if the common fork-join pool has more than one thread. It partitions into three parts as well, so that the
+     * duplicates remaining in such arrays do not slow it down.</li>
+     * <li>The remaining arrays are sorted using introsort.</li>
+     * </ul>
+     *
+     * @param A   the array of elements to sort
+     * @param <E> the type of elements in {@code A}
+     * @return the algorithm used to sort {@code A} and the reason of choosing it
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Comparable<? super E>> Decision sort(Array<E> A) {
+        Decision decision = chooseAlgorithm(A);
+        switch (decision.algorithm) {
+            case INSERTION_SORT:
+                Chapter2.insertionSort(A);
+                break;
+            case ADAPTIVE_MERGE_SORT:
+                Chapter2.adaptiveMergeSort(A, 1, A.length);
+                break;
+            case COUNTING_SORT:
+                countingSort((Array<Integer>) A, decision.min, decision.max);
+                break;
+            case RADIX_SORT:
+                radixSort((Array<Integer>) A);
+                break;
+            case PARALLEL_QUICKSORT:
+                Chapter7.parallelQuicksort(A, 1, A.length);
+                break;
+            default:
+                Chapter7.introsort(A);
+        }
+        return decision;
+    }
+
+    /**
+     * Chooses the algorithm that {@link #sort(Array)} uses to sort the input, without sorting it.
+     *
+     * @param A   the array of elements to sort
+     * @param <E> the type of elements in {@code A}
+     * @return the algorithm chosen for {@code A} and the reason of choosing it
+     */
+    public static <E extends Comparable<? super E>> Decision chooseAlgorithm(Array<E> A) {
+        int n = A.length;
+        if (n <= INSERTION_SORT_MAX_LENGTH) {
+            return new Decision(Algorithm.INSERTION_SORT,
+                    "length " + n + " is at most " + INSERTION_SORT_MAX_LENGTH);
+        }
+        int pairs = Math.min(n - 1, SAMPLE_SIZE);
+        int descents = 0;
+        int ascents = 0;
+        for (int s = 0; s < pairs; s++) {
+            int i = 1 + (int) ((long) s * (n - 1) / pairs);
+            E a = A.at(i);
+            E b = A.at(i + 1);
+            if (greater(a, b)) {
+                descents++;
+            } else if (less(a, b)) {
+                ascents++;
+            }
+        }
+        if (descents * 16 <= pairs) {
+            return new Decision(Algorithm.ADAPTIVE_MERGE_SORT,
+                    descents + " of " + pairs + " sampled adjacent pairs are out of order");
+        }
+        if (ascents * 16 <= pairs) {
+            return new Decision(Algorithm.ADAPTIVE_MERGE_SORT,
+                    ascents + " of " + pairs + " sampled adjacent pairs are in order");
+        }
+        if (A.at(1) instanceof Integer) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int j = 1; j <= n; j++) {
+                int key = (Integer) A.at(j);
+                min = Math.min(min, key);
+                max = Math.max(max, key);
+            }
+            long range = (long) max - min + 1;
+            if (range <= n && range <= COUNTING_SORT_MAX_RANGE) {
+                return new Decision(Algorithm.COUNTING_SORT,
+                        "integer keys span " + range + " values, at most the length " + n, min, max);
+            }
+            if (n >= RADIX_SORT_MIN_LENGTH) {
+                return new Decision(Algorithm.RADIX_SORT,
+                        "integer keys span " + range + " values, too many for counting sort");
+            }
+        }
+        int distinct = countDistinctInSample(A);
+        int samples = Math.min(n, SAMPLE_SIZE);
+        if (distinct * 4 <= samples) {
+            return new Decision(Algorithm.INTROSORT,
+                    "only " + distinct + " of " + samples + " sampled elements are distinct");
+        }
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (n >= PARALLEL_SORT_MIN_LENGTH && parallelism > 1) {
+            return new Decision(Algorithm.PARALLEL_QUICKSORT,
+                    "no order in " + n + " elements and " + parallelism + " threads available");
+        }
+        return new Decision(Algorithm.INTROSORT,
+                descents + " of " + pairs + " sampled adjacent pairs are out of order and "
+                        + distinct + " of " + samples + " sampled elements are distinct");
+    }
+
+    private static <E extends Comparable<? super E>> int countDistinctInSample(Array<E> A) {
+        int n = A.length;
+        int samples = Math.min(n, SAMPLE_SIZE);
+        Array<E> sample = Array.ofLength(samples);
+        for (int s = 0; s < samples; s++) {
+            sample.set(s + 1, A.at(1 + (int) ((long) s * n / samples)));
+        }
+        Chapter7.introsort(sample);
+        int distinct = 1;
+        for (int s = 2; s <= samples; s++) {
+            if (less(sample.at(s - 1), sample.at(s))) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    private static void countingSort(Array<Integer> A, int min, int max) {
+        int n = A.length;
+        IntArray keys = IntArray.ofLength(n);
+        for (int j = 1; j <= n; j++) {
+            keys.setUnchecked(j, A.atUnchecked(j) - min);
+        }
+        IntArray sorted = IntArray.ofLength(n);
+        Chapter8.countingSort(keys, sorted, max - min);
+        for (int j = 1; j <= n; j++) {
+            A.setUnchecked(j, sorted.atUnchecked(j) + min);
+        }
+    }
+
+    private static void radixSort(Array<Integer> A) {
+        int n = A.length;
+        IntArray keys = IntArray.ofLength(n);
+        for (int j = 1; j <= n; j++) {
+            keys.setUnchecked(j, A.atUnchecked(j));
+        }
+        Chapter8.binaryRadixSort(keys);
+        for (int j = 1; j <= n; j++) {
+            A.setUnchecked(j, keys.atUnchecked(j));
+        }
+    }
+
+}
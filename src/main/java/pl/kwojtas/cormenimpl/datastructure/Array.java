@@ -1,8 +1,8 @@
 package pl.kwojtas.cormenimpl.datastructure;
 
-import java.util.ArrayList;
+import pl.kwojtas.cormenimpl.Instrumentation;
+
 import java.util.Arrays;
-import java.util.Collections;
 
 /**
  * Implements a 1-based indexed array.
@@ -11,19 +11,25 @@ import java.util.Collections;
  */
 public class Array<E> {
 
-    private java.util.List<E> data;
+    private Object[] data;
 
     /**
      * The number of elements in the array.
      */
     public int length;
 
-    private Array(java.util.List<E> initialData) {
+    private Array(Object[] initialData) {
+        if (Instrumentation.ENABLED) {
+            Instrumentation.countAllocation();
+        }
         this.data = initialData;
-        this.length = initialData.size();
+        this.length = initialData.length;
     }
 
     protected Array(Array<E> otherArray) {
+        if (Instrumentation.ENABLED) {
+            Instrumentation.countAllocation();
+        }
         set(otherArray);
     }
 
@@ -33,7 +39,7 @@ public class Array<E> {
      * @return the empty array
      */
     public static <E> Array<E> emptyArray() {
-        return new Array<>(Collections.emptyList());
+        return new Array<>(new Object[0]);
     }
 
     /**
@@ -44,8 +50,7 @@ public class Array<E> {
      */
     @SafeVarargs
     public static <E> Array<E> of(E... elements) {
-        java.util.List<E> initialData = Arrays.asList(elements);
-        return new Array<>(initialData);
+        return new Array<>(Arrays.copyOf(elements, elements.length, Object[].class));
     }
 
     /**
@@ -55,8 +60,7 @@ public class Array<E> {
      * @return the array of length {@code length} filled with {@code null}s
      */
     public static <E> Array<E> ofLength(int length) {
-        java.util.List<E> initialData = new ArrayList<>(Collections.nCopies(length, null));
-        return new Array<>(initialData);
+        return new Array<>(new Object[length]);
     }
 
     /**
@@ -76,11 +80,12 @@ public class Array<E> {
      * @return the element at position {@code position}
      * @throws IllegalStateException if {@code position < 1} or {@code position > length}
      */
+    @SuppressWarnings("unchecked")
     public E at(int position) {
         if (position < 1 || position > length) {
             throw new IllegalStateException("Array index out of bound");
         }
-        return data.get(position - 1);
+        return (E) data[position - 1];
     }
 
     /**
@@ -91,10 +96,33 @@ public class Array<E> {
      * @throws IllegalStateException if {@code position < 1} or {@code position > length}
      */
     public void set(int position, E element) {
-        if (position < 1 || position > data.size()) {
+        if (position < 1 || position > length) {
             throw new IllegalStateException("Array index out of bound");
         }
-        data.set(position - 1, element);
+        data[position - 1] = element;
+    }
+
+    /**
+     * Returns an element at a given position without checking if the position is valid.
+     * Intended for inner loops of algorithms that keep their indices within {@code 1..length} by themselves.
+     *
+     * @param position the position of the element to return, from {@code 1..length}
+     * @return the element at position {@code position}
+     */
+    @SuppressWarnings("unchecked")
+    public E atUnchecked(int position) {
+        return (E) data[position - 1];
+    }
+
+    /**
+     * Sets an element at a given position without checking if the position is valid.
+     * Intended for inner loops of algorithms that keep their indices within {@code 1..length} by themselves.
+     *
+     * @param position the position of the element to set, from {@code 1..length}
+     * @param element  the new element
+     */
+    public void setUnchecked(int position, E element) {
+        data[position - 1] = element;
     }
 
     /**
@@ -106,7 +134,7 @@ public class Array<E> {
         if (this == otherArray) {
             return;
         }
-        this.data = new ArrayList<>(otherArray.data);
+        this.data = otherArray.data.clone();
         this.length = otherArray.length;
     }
 
@@ -122,4 +150,16 @@ public class Array<E> {
         set(position2, swap);
     }
 
+    /**
+     * Exchanges two elements in the array without checking if the positions are valid.
+     *
+     * @param position1 the position of the first element, from {@code 1..length}
+     * @param position2 the position of the second element, from {@code 1..length}
+     */
+    public void exchUnchecked(int position1, int position2) {
+        Object swap = data[position1 - 1];
+        data[position1 - 1] = data[position2 - 1];
+        data[position2 - 1] = swap;
+    }
+
 }
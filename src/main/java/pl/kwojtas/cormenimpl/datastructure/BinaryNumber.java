@@ -0,0 +1,83 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+/**
+ * Implements an {@code n}-bit non-negative integer with bits packed into {@code long} words.
+ * The bit at position {@code i} (counting from {@code 1} for the least significant bit) is stored as bit
+ * {@code (i - 1) mod 64} of the word {@code words[(i - 1) / 64]}, and the bits of the last word beyond position
+ * {@code n} are always {@code 0}.
+ */
+public class BinaryNumber {
+
+    /**
+     * The number of bits.
+     */
+    public final int length;
+
+    /**
+     * The words containing the bits from the least to the most significant.
+     */
+    public final long[] words;
+
+    private BinaryNumber(int length) {
+        this.length = length;
+        this.words = new long[(length + 63) / 64];
+    }
+
+    /**
+     * Returns a number of a given number of bits.
+     *
+     * @param length the number of bits of the new number
+     * @return the number of {@code length} bits equal to {@code 0}
+     */
+    public static BinaryNumber ofLength(int length) {
+        return new BinaryNumber(length);
+    }
+
+    /**
+     * Creates a number from an array of its bits.
+     *
+     * @param bits the array containing bits of the number from the least to the most significant
+     * @return the number of {@code bits.length} bits
+     */
+    public static BinaryNumber of(IntArray bits) {
+        BinaryNumber number = new BinaryNumber(bits.length);
+        for (int i = 1; i <= bits.length; i++) {
+            number.setBit(i, bits.at(i));
+        }
+        return number;
+    }
+
+    /**
+     * Returns a bit at a given position.
+     *
+     * @param position the position of the bit to return
+     * @return the bit at position {@code position}
+     * @throws IllegalStateException if {@code position < 1} or {@code position > length}
+     */
+    public int bitAt(int position) {
+        if (position < 1 || position > length) {
+            throw new IllegalStateException("Array index out of bound");
+        }
+        return (int) (words[(position - 1) >>> 6] >>> (position - 1)) & 1;
+    }
+
+    /**
+     * Sets a bit at a given position.
+     *
+     * @param position the position of the bit to set
+     * @param bit      the new bit, {@code 0} or {@code 1}
+     * @throws IllegalStateException if {@code position < 1} or {@code position > length}
+     */
+    public void setBit(int position, int bit) {
+        if (position < 1 || position > length) {
+            throw new IllegalStateException("Array index out of bound");
+        }
+        long mask = 1L << (position - 1);
+        if (bit == 0) {
+            words[(position - 1) >>> 6] &= ~mask;
+        } else {
+            words[(position - 1) >>> 6] |= mask;
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+/**
+ * Implements a 1-based indexed array of {@code double} values.
+ * Unlike {@link Array}{@code <Double>} the elements are stored unboxed.
+ */
+public class DoubleArray {
+
+    private double[] data;
+
+    /**
+     * The number of elements in the array.
+     */
+    public int length;
+
+    private DoubleArray(double[] initialData) {
+        this.data = initialData;
+        this.length = initialData.length;
+    }
+
+    protected DoubleArray(DoubleArray otherArray) {
+        set(otherArray);
+    }
+
+    /**
+     * Returns an empty array (an array containing 0 elements).
+     *
+     * @return the empty array
+     */
+    public static DoubleArray emptyArray() {
+        return new DoubleArray(new double[0]);
+    }
+
+    /**
+     * Creates an array of given elements.
+     *
+     * @param elements the initial contents of the array
+     * @return the array containing elements from {@code elements}
+     */
+    public static DoubleArray of(double... elements) {
+        return new DoubleArray(elements.clone());
+    }
+
+    /**
+     * Returns an array of a given length.
+     *
+     * @param length the length of the new array
+     * @return the array of length {@code length} filled with {@code 0.0}s
+     */
+    public static DoubleArray ofLength(int length) {
+        return new DoubleArray(new double[length]);
+    }
+
+    /**
+     * Returns a copy of an existing array.
+     *
+     * @param otherArray the array to be copied
+     * @return the copy of {@code otherArray}
+     */
+    public static DoubleArray copyOf(DoubleArray otherArray) {
+        return new DoubleArray(otherArray);
+    }
+
+    /**
+     * Returns an element at a given position.
+     *
+     * @param position the position of the element to return
+     * @return the element at position {@code position}
+     * @throws IllegalStateException if {@code position < 1} or {@code position > length}
+     */
+    public double at(int position) {
+        if (position < 1 || position > length) {
+            throw new IllegalStateException("Array index out of bound");
+        }
+        return data[position - 1];
+    }
+
+    /**
+     * Sets an element at a given position.
+     *
+     * @param position the position of the element to set
+     * @param element  the new element
+     * @throws IllegalStateException if {@code position < 1} or {@code position > length}
+     */
+    public void set(int position, double element) {
+        if (position < 1 || position > length) {
+            throw new IllegalStateException("Array index out of bound");
+        }
+        data[position - 1] = element;
+    }
+
+    /**
+     * Returns an element at a given position without checking if the position is valid.
+     * Intended for inner loops of algorithms that keep their indices within {@code 1..length} by themselves.
+     *
+     * @param position the position of the element to return, from {@code 1..length}
+     * @return the element at position {@code position}
+     */
+    public double atUnchecked(int position) {
+        return data[position - 1];
+    }
+
+    /**
+     * Sets an element at a given position without checking if the position is valid.
+     * Intended for inner loops of algorithms that keep their indices within {@code 1..length} by themselves.
+     *
+     * @param position the position of the element to set, from {@code 1..length}
+     * @param element  the new element
+     */
+    public void setUnchecked(int position, double element) {
+        data[position - 1] = element;
+    }
+
+    /**
+     * Sets the array contents by copying an existing array.
+     *
+     * @param otherArray the array to be copied
+     */
+    public void set(DoubleArray otherArray) {
+        if (this == otherArray) {
+            return;
+        }
+        this.data = otherArray.data.clone();
+        this.length = otherArray.length;
+    }
+
+    /**
+     * Exchanges two elements in the array.
+     *
+     * @param position1 the position of the first element
+     * @param position2 the position of the second element
+     */
+    public void exch(int position1, int position2) {
+        double swap = at(position1);
+        set(position1, at(position2));
+        set(position2, swap);
+    }
+
+    /**
+     * Exchanges two elements in the array without checking if the positions are valid.
+     *
+     * @param position1 the position of the first element, from {@code 1..length}
+     * @param position2 the position of the second element, from {@code 1..length}
+     */
+    public void exchUnchecked(int position1, int position2) {
+        double swap = data[position1 - 1];
+        data[position1 - 1] = data[position2 - 1];
+        data[position2 - 1] = swap;
+    }
+
+}
@@ -0,0 +1,71 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+/**
+ * Implements a static sorted array of {@code int} values stored in the Eytzinger layout.
+ * The elements form a complete binary search tree stored in breadth-first order, so the root is at index {@code 1}
+ * and the children of a node at index {@code k} are at indices {@code 2k} and {@code 2k + 1}. The nodes visited by
+ * a search are packed at the beginning of the array, and the descendants of a node several levels down share cache
+ * lines. The array cannot be modified once it has been built.
+ */
+public class EytzingerArray {
+
+    /**
+     * The maximum number of elements in the array, so that the indices of the children of every node fit in an
+     * {@code int}.
+     */
+    public static final int MAX_LENGTH = (1 << 30) - 1;
+
+    /**
+     * The number of elements in the array.
+     */
+    public final int length;
+
+    private final int[] keys;
+    private final int[] positions;
+
+    /**
+     * Creates an array in the Eytzinger layout from a sorted array.
+     *
+     * @param sortedArray the array of elements sorted in nondecreasing order, of at most {@link #MAX_LENGTH} elements
+     */
+    public EytzingerArray(IntArray sortedArray) {
+        if (sortedArray.length > MAX_LENGTH) {
+            throw new IllegalStateException("Array too long");
+        }
+        length = sortedArray.length;
+        keys = new int[length + 1];
+        positions = new int[length + 1];
+        build(sortedArray, 1, 1);
+    }
+
+    /**
+     * Returns the element at a node of the search tree.
+     *
+     * @param k the index of the node, from {@code 1..length}
+     * @return the element at the {@code k}-th node in breadth-first order
+     */
+    public int keyAt(int k) {
+        return keys[k];
+    }
+
+    /**
+     * Returns the position in the original sorted array of the element at a node of the search tree.
+     *
+     * @param k the index of the node, from {@code 1..length}
+     * @return the position of the element at the {@code k}-th node in breadth-first order
+     */
+    public int positionAt(int k) {
+        return positions[k];
+    }
+
+    private int build(IntArray sortedArray, int i, int k) {
+        if (k <= length) {
+            i = build(sortedArray, i, 2 * k);
+            keys[k] = sortedArray.at(i);
+            positions[k] = i;
+            i = build(sortedArray, i + 1, 2 * k + 1);
+        }
+        return i;
+    }
+
+}
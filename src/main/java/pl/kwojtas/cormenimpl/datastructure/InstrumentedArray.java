@@ -0,0 +1,59 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+import pl.kwojtas.cormenimpl.Instrumentation;
+
+/**
+ * Implements an array that counts reads, writes and exchanges of its elements with {@link Instrumentation}.
+ *
+ * @param <E> the type of elements in the array
+ */
+public class InstrumentedArray<E> extends Array<E> {
+
+    /**
+     * Creates an instrumented array by copying an existing array.
+     *
+     * @param array the array to be copied
+     */
+    public InstrumentedArray(Array<E> array) {
+        super(array);
+    }
+
+    @Override
+    public E at(int position) {
+        Instrumentation.countRead();
+        return super.at(position);
+    }
+
+    @Override
+    public void set(int position, E element) {
+        Instrumentation.countWrite();
+        super.set(position, element);
+    }
+
+    @Override
+    public E atUnchecked(int position) {
+        Instrumentation.countRead();
+        return super.atUnchecked(position);
+    }
+
+    @Override
+    public void setUnchecked(int position, E element) {
+        Instrumentation.countWrite();
+        super.setUnchecked(position, element);
+    }
+
+    @Override
+    public void exch(int position1, int position2) {
+        Instrumentation.countExchange();
+        E swap = super.at(position1);
+        super.set(position1, super.at(position2));
+        super.set(position2, swap);
+    }
+
+    @Override
+    public void exchUnchecked(int position1, int position2) {
+        Instrumentation.countExchange();
+        super.exchUnchecked(position1, position2);
+    }
+
+}
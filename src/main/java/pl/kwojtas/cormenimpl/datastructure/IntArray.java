@@ -0,0 +1,151 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+/**
+ * Implements a 1-based indexed array of {@code int} values.
+ * Unlike {@link Array}{@code <Integer>} the elements are stored unboxed.
+ */
+public class IntArray {
+
+    private int[] data;
+
+    /**
+     * The number of elements in the array.
+     */
+    public int length;
+
+    private IntArray(int[] initialData) {
+        this.data = initialData;
+        this.length = initialData.length;
+    }
+
+    protected IntArray(IntArray otherArray) {
+        set(otherArray);
+    }
+
+    /**
+     * Returns an empty array (an array containing 0 elements).
+     *
+     * @return the empty array
+     */
+    public static IntArray emptyArray() {
+        return new IntArray(new int[0]);
+    }
+
+    /**
+     * Creates an array of given elements.
+     *
+     * @param elements the initial contents of the array
+     * @return the array containing elements from {@code elements}
+     */
+    public static IntArray of(int... elements) {
+        return new IntArray(elements.clone());
+    }
+
+    /**
+     * Returns an array of a given length.
+     *
+     * @param length the length of the new array
+     * @return the array of length {@code length} filled with {@code 0}s
+     */
+    public static IntArray ofLength(int length) {
+        return new IntArray(new int[length]);
+    }
+
+    /**
+     * Returns a copy of an existing array.
+     *
+     * @param otherArray the array to be copied
+     * @return the copy of {@code otherArray}
+     */
+    public static IntArray copyOf(IntArray otherArray) {
+        return new IntArray(otherArray);
+    }
+
+    /**
+     * Returns an element at a given position.
+     *
+     * @param position the position of the element to return
+     * @return the element at position {@code position}
+     * @throws IllegalStateException if {@code position < 1} or {@code position > length}
+     */
+    public int at(int position) {
+        if (position < 1 || position > length) {
+            throw new IllegalStateException("Array index out of bound");
+        }
+        return data[position - 1];
+    }
+
+    /**
+     * Sets an element at a given position.
+     *
+     * @param position the position of the element to set
+     * @param element  the new element
+     * @throws IllegalStateException if {@code position < 1} or {@code position > length}
+     */
+    public void set(int position, int element) {
+        if (position < 1 || position > length) {
+            throw new IllegalStateException("Array index out of bound");
+        }
+        data[position - 1] = element;
+    }
+
+    /**
+     * Returns an element at a given position without checking if the position is valid.
+     * Intended for inner loops of algorithms that keep their indices within {@code 1..length} by themselves.
+     *
+     * @param position the position of the element to return, from {@code 1..length}
+     * @return the element at position {@code position}
+     */
+    public int atUnchecked(int position) {
+        return data[position - 1];
+    }
+
+    /**
+     * Sets an element at a given position without checking if the position is valid.
+     * Intended for inner loops of algorithms that keep their indices within {@code 1..length} by themselves.
+     *
+     * @param position the position of the element to set, from {@code 1..length}
+     * @param element  the new element
+     */
+    public void setUnchecked(int position, int element) {
+        data[position - 1] = element;
+    }
+
+    /**
+     * Sets the array contents by copying an existing array.
+     *
+     * @param otherArray the array to be copied
+     */
+    public void set(IntArray otherArray) {
+        if (this == otherArray) {
+            return;
+        }
+        this.data = otherArray.data.clone();
+        this.length = otherArray.length;
+    }
+
+    /**
+     * Exchanges two elements in the array.
+     *
+     * @param position1 the position of the first element
+     * @param position2 the position of the second element
+     */
+    public void exch(int position1, int position2) {
+        int swap = at(position1);
+        set(position1, at(position2));
+        set(position2, swap);
+    }
+
+    /**
+     * Exchanges two elements in the array without checking if the positions are valid.
+     *
+     * @param position1 the position of the first element, from {@code 1..length}
+     * @param position2 the position of the second element, from {@code 1..length}
+     */
+    public void exchUnchecked(int position1, int position2) {
+        int swap = data[position1 - 1];
+        data[position1 - 1] = data[position2 - 1];
+        data[position2 - 1] = swap;
+    }
+
+}
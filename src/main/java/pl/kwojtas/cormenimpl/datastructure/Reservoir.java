@@ -0,0 +1,53 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+/**
+ * Implements a reservoir - a random sample of bounded size of items of a stream.
+ * Every item of the stream gets a random key, exponentially distributed with the rate equal to the item's weight,
+ * and the reservoir holds the items with the smallest keys. The keys are kept in a max-heap, so that the key at the
+ * root is the threshold that a key of a new item must fall below for the item to enter the sample.
+ *
+ * @param <E> the type of items in the reservoir
+ */
+public class Reservoir<E> {
+
+    /**
+     * The sampled items at positions {@code 1..size}, in the order of {@code keys}.
+     */
+    public final Array<E> sample;
+
+    /**
+     * The keys of the sampled items at positions {@code 1..size}, forming a max-heap.
+     */
+    public final DoubleArray keys;
+
+    /**
+     * The number of sampled items.
+     */
+    public int size;
+
+    /**
+     * The total weight of the next items of the stream (their number, if all weights are {@code 1})
+     * that are passed before an item enters the full reservoir.
+     */
+    public double jump;
+
+    /**
+     * Creates an empty reservoir of a given capacity.
+     *
+     * @param capacity the maximum number of sampled items
+     */
+    public Reservoir(int capacity) {
+        this.sample = Array.ofLength(capacity);
+        this.keys = DoubleArray.ofLength(capacity);
+    }
+
+    /**
+     * Returns the maximum number of sampled items.
+     *
+     * @return the capacity of the reservoir
+     */
+    public int getCapacity() {
+        return sample.length;
+    }
+
+}
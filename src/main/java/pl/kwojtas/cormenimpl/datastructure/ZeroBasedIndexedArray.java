@@ -1,8 +1,6 @@
 package pl.kwojtas.cormenimpl.datastructure;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 
 /**
  * Implements a 0-based indexed array.
@@ -11,16 +9,16 @@ import java.util.Collections;
  */
 public class ZeroBasedIndexedArray<E> {
 
-    private java.util.List<E> data;
+    private Object[] data;
 
     /**
      * The number of elements in the array.
      */
     public int length;
 
-    private ZeroBasedIndexedArray(java.util.List<E> initialData) {
+    private ZeroBasedIndexedArray(Object[] initialData) {
         this.data = initialData;
-        this.length = initialData.size();
+        this.length = initialData.length;
     }
 
     protected ZeroBasedIndexedArray(ZeroBasedIndexedArray<E> otherArray) {
@@ -35,8 +33,7 @@ public class ZeroBasedIndexedArray<E> {
      */
     @SafeVarargs
     public static <E> ZeroBasedIndexedArray<E> of(E... elements) {
-        java.util.List<E> initialData = Arrays.asList(elements);
-        return new ZeroBasedIndexedArray<>(initialData);
+        return new ZeroBasedIndexedArray<>(Arrays.copyOf(elements, elements.length, Object[].class));
     }
 
     /**
@@ -46,8 +43,7 @@ public class ZeroBasedIndexedArray<E> {
      * @return the array of length {@code length} filled with {@code null}s
      */
     public static <E> ZeroBasedIndexedArray<E> ofLength(int length) {
-        java.util.List<E> initialData = new ArrayList<>(Collections.nCopies(length, null));
-        return new ZeroBasedIndexedArray<>(initialData);
+        return new ZeroBasedIndexedArray<>(new Object[length]);
     }
 
     /**
@@ -67,11 +63,12 @@ public class ZeroBasedIndexedArray<E> {
      * @return the element at position {@code position}
      * @throws IllegalStateException if {@code position < 1} or {@code position > length}
      */
+    @SuppressWarnings("unchecked")
     public E at(int position) {
         if (position < 0 || position > length - 1) {
             throw new IllegalStateException("Array index out of bound");
         }
-        return data.get(position);
+        return (E) data[position];
     }
 
     /**
@@ -85,7 +82,30 @@ public class ZeroBasedIndexedArray<E> {
         if (position < 0 || position > length - 1) {
             throw new IllegalStateException("Array index out of bound");
         }
-        data.set(position, element);
+        data[position] = element;
+    }
+
+    /**
+     * Returns an element at a given position without checking if the position is valid.
+     * Intended for inner loops of algorithms that keep their indices within {@code 0..length - 1} by themselves.
+     *
+     * @param position the position of the element to return, from {@code 0..length - 1}
+     * @return the element at position {@code position}
+     */
+    @SuppressWarnings("unchecked")
+    public E atUnchecked(int position) {
+        return (E) data[position];
+    }
+
+    /**
+     * Sets an element at a given position without checking if the position is valid.
+     * Intended for inner loops of algorithms that keep their indices within {@code 0..length - 1} by themselves.
+     *
+     * @param position the position of the element to set, from {@code 0..length - 1}
+     * @param element  the new element
+     */
+    public void setUnchecked(int position, E element) {
+        data[position] = element;
     }
 
     /**
@@ -97,7 +117,7 @@ public class ZeroBasedIndexedArray<E> {
         if (this == otherArray) {
             return;
         }
-        this.data = new ArrayList<>(otherArray.data);
+        this.data = otherArray.data.clone();
         this.length = otherArray.length;
     }
 
@@ -113,4 +133,16 @@ public class ZeroBasedIndexedArray<E> {
         set(position2, swap);
     }
 
+    /**
+     * Exchanges two elements in the array without checking if the positions are valid.
+     *
+     * @param position1 the position of the first element, from {@code 0..length - 1}
+     * @param position2 the position of the second element, from {@code 0..length - 1}
+     */
+    public void exchUnchecked(int position1, int position2) {
+        Object swap = data[position1];
+        data[position1] = data[position2];
+        data[position2] = swap;
+    }
+
 }
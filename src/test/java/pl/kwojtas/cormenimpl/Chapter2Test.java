@@ -1,12 +1,20 @@
 package pl.kwojtas.cormenimpl;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.BinaryNumber;
+import pl.kwojtas.cormenimpl.datastructure.DoubleArray;
+import pl.kwojtas.cormenimpl.datastructure.EytzingerArray;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
 import pl.kwojtas.cormenimpl.datastructure.ZeroBasedIndexedArray;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.math.BigInteger;
+import java.util.Random;
 import java.util.Comparator;
 
 import static org.junit.Assert.assertEquals;
@@ -14,11 +22,17 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static pl.kwojtas.cormenimpl.TestUtil.assertArrayEquals;
 import static pl.kwojtas.cormenimpl.TestUtil.assertShuffled;
 import static pl.kwojtas.cormenimpl.TestUtil.assertSorted;
+import static pl.kwojtas.cormenimpl.TestUtil.randomIntegers;
+import static pl.kwojtas.cormenimpl.TestUtil.sortArray;
 
 public class Chapter2Test {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     @Test
     public void shouldHavePrivateConstructor() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         Constructor<Chapter2> constructor = Chapter2.class.getDeclaredConstructor();
@@ -87,6 +101,132 @@ public class Chapter2Test {
         assertEquals(a + b, bitsToNumber(actualSumBits));
     }
 
+    @Test
+    public void shouldAddTwoNumbersInBinaryUsingPrimitiveArrays() {
+        IntArray firstNumberBits = IntArray.of(0, 0, 1, 1, 0, 1, 0, 0, 0, 0, 1);
+        IntArray secondNumberBits = IntArray.of(0, 1, 1, 1, 1, 0, 0, 1, 0, 1, 1);
+        int a = bitsToNumber(firstNumberBits);
+        int b = bitsToNumber(secondNumberBits);
+        int bitsLength = firstNumberBits.length;
+
+        IntArray actualSumBits = Chapter2.binaryAdd(firstNumberBits, secondNumberBits);
+
+        assertNotNull(actualSumBits);
+        assertEquals(bitsLength + 1, actualSumBits.length);
+        assertEquals(a + b, bitsToNumber(actualSumBits));
+    }
+
+    private BinaryNumber randomBinaryNumber(Random random, int length) {
+        BinaryNumber number = BinaryNumber.ofLength(length);
+        for (int i = 1; i <= length; i++) {
+            number.setBit(i, random.nextInt(2));
+        }
+        return number;
+    }
+
+    private BigInteger toBigInteger(BinaryNumber number) {
+        BigInteger value = BigInteger.ZERO;
+        for (int i = number.length; i >= 1; i--) {
+            value = value.shiftLeft(1).add(BigInteger.valueOf(number.bitAt(i)));
+        }
+        return value;
+    }
+
+    @Test
+    public void shouldAddTwoNumbersInBinaryUsingPackedBits() {
+        Random random = new Random(1000);
+        for (int n : new int[]{1, 63, 64, 65, 128, 1000}) {
+            BinaryNumber firstNumber = randomBinaryNumber(random, n);
+            BinaryNumber secondNumber = randomBinaryNumber(random, n);
+
+            BinaryNumber actualSum = Chapter2.binaryAdd(firstNumber, secondNumber);
+
+            assertEquals(n + 1, actualSum.length);
+            assertEquals(toBigInteger(firstNumber).add(toBigInteger(secondNumber)), toBigInteger(actualSum));
+        }
+    }
+
+    @Test
+    public void shouldAddTwoNumbersInBinaryInParallel() {
+        Random random = new Random(1000);
+        int n = 64 * 100;
+        int threshold = 3;
+        BinaryNumber firstNumber = randomBinaryNumber(random, n);
+        BinaryNumber secondNumber = randomBinaryNumber(random, n);
+
+        BinaryNumber actualSum = Chapter2.parallelBinaryAdd(firstNumber, secondNumber, threshold);
+
+        assertEquals(n + 1, actualSum.length);
+        assertEquals(toBigInteger(firstNumber).add(toBigInteger(secondNumber)), toBigInteger(actualSum));
+    }
+
+    @Test
+    public void shouldPropagateCarryThroughAllBlocksWhenAddingInParallel() {
+        int n = 64 * 100;
+        int threshold = 3;
+        BinaryNumber firstNumber = BinaryNumber.ofLength(n);
+        for (int i = 1; i <= n; i++) {
+            firstNumber.setBit(i, 1);
+        }
+        BinaryNumber secondNumber = BinaryNumber.ofLength(n);
+        secondNumber.setBit(1, 1);
+
+        BinaryNumber actualSum = Chapter2.parallelBinaryAdd(firstNumber, secondNumber, threshold);
+
+        assertEquals(BigInteger.ONE.shiftLeft(n), toBigInteger(actualSum));
+    }
+
+    @Test
+    public void shouldSubtractTwoNumbersInBinaryUsingPackedBits() {
+        Random random = new Random(1000);
+        int n = 1000;
+        BinaryNumber firstNumber = randomBinaryNumber(random, n);
+        BinaryNumber secondNumber = randomBinaryNumber(random, n);
+        if (Chapter2.binaryCompare(firstNumber, secondNumber) < 0) {
+            BinaryNumber swap = firstNumber;
+            firstNumber = secondNumber;
+            secondNumber = swap;
+        }
+
+        BinaryNumber actualDifference = Chapter2.binarySubtract(firstNumber, secondNumber);
+
+        assertEquals(n, actualDifference.length);
+        assertEquals(toBigInteger(firstNumber).subtract(toBigInteger(secondNumber)), toBigInteger(actualDifference));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenSubtractingLargerNumberInBinary() {
+        BinaryNumber firstNumber = BinaryNumber.of(IntArray.of(1, 0, 1, 0));
+        BinaryNumber secondNumber = BinaryNumber.of(IntArray.of(0, 1, 1, 0));
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("underflow");
+        Chapter2.binarySubtract(firstNumber, secondNumber);
+    }
+
+    @Test
+    public void shouldCompareTwoNumbersInBinaryUsingPackedBits() {
+        Random random = new Random(1000);
+        int n = 200;
+        BinaryNumber firstNumber = randomBinaryNumber(random, n);
+        BinaryNumber secondNumber = randomBinaryNumber(random, n);
+        firstNumber.setBit(n, 1);
+        secondNumber.setBit(n, 0);
+
+        assertTrue(Chapter2.binaryCompare(firstNumber, secondNumber) > 0);
+        assertTrue(Chapter2.binaryCompare(secondNumber, firstNumber) < 0);
+        assertEquals(0, Chapter2.binaryCompare(firstNumber, firstNumber));
+    }
+
+    private int bitsToNumber(IntArray bits) {
+        int number = 0;
+        for (int i = bits.length; i >= 1; i--) {
+            number *= 2;
+            number += bits.at(i);
+        }
+        return number;
+    }
+
     private int bitsToNumber(Array<Integer> bits) {
         int number = 0;
         for (int i = bits.length; i >= 1; i--) {
@@ -118,6 +258,200 @@ public class Chapter2Test {
         assertSorted(array);
     }
 
+    @Test
+    public void shouldSortPrimitiveArrayUsingMergeSort() {
+        IntArray array = IntArray.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        IntArray original = IntArray.copyOf(array);
+
+        Chapter2.mergeSort(array, 1, array.length);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortArrayUsingParallelMergeSort() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+
+        Chapter2.parallelMergeSort(array, 1, array.length);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayUsingParallelMergeSort() {
+        Array<Integer> array = randomIntegers(100000, 1000);
+        Array<Integer> expected = Array.copyOf(array);
+        sortArray(expected);
+        int threshold = 100;
+
+        Chapter2.parallelMergeSort(array, 1, array.length, threshold, true);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayUsingParallelMergeSortWithSequentialMerge() {
+        Array<Integer> array = randomIntegers(100000, 1000);
+        Array<Integer> expected = Array.copyOf(array);
+        sortArray(expected);
+        int threshold = 100;
+
+        Chapter2.parallelMergeSort(array, 1, array.length, threshold, false);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortSubarrayUsingParallelMergeSort() {
+        Array<Integer> array = randomIntegers(10000, 100);
+        Array<Integer> original = Array.copyOf(array);
+        int p = 1001;
+        int r = 9000;
+        int threshold = 50;
+
+        Chapter2.parallelMergeSort(array, p, r, threshold, true);
+
+        for (int i = 1; i <= array.length; i++) {
+            if (i < p || i > r) {
+                assertEquals(original.at(i), array.at(i));
+            } else if (i > p) {
+                assertTrue(array.at(i - 1) <= array.at(i));
+            }
+        }
+    }
+
+    @Test
+    public void shouldSortArrayUsingParallelMergeSortStably() {
+        Array<KeyWithIndex> array = Array.ofLength(20000);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, new KeyWithIndex((i * 7919) % 10, i));
+        }
+        int threshold = 64;
+
+        Chapter2.parallelMergeSort(array, 1, array.length, threshold, true);
+
+        for (int i = 2; i <= array.length; i++) {
+            assertTrue(array.at(i - 1).key < array.at(i).key
+                    || array.at(i - 1).key == array.at(i).key && array.at(i - 1).index < array.at(i).index);
+        }
+    }
+
+    @Test
+    public void shouldSortArrayUsingAdaptiveMergeSort() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+
+        Chapter2.adaptiveMergeSort(array, 1, array.length);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayUsingAdaptiveMergeSort() {
+        Array<Integer> array = randomIntegers(100000, 1000);
+        Array<Integer> expected = Array.copyOf(array);
+        sortArray(expected);
+
+        Chapter2.adaptiveMergeSort(array, 1, array.length);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortLargeReversedArrayUsingAdaptiveMergeSort() {
+        Array<Integer> array = Array.ofLength(100000);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, array.length - i);
+        }
+        Array<Integer> expected = Array.copyOf(array);
+        sortArray(expected);
+
+        Chapter2.adaptiveMergeSort(array, 1, array.length);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortLargeNearlySortedArrayUsingAdaptiveMergeSort() {
+        Array<Integer> array = Array.ofLength(100000);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, i);
+        }
+        Random random = new Random(array.length);
+        for (int burst = 1; burst <= 20; burst++) {
+            int start = 1 + random.nextInt(array.length - 1000);
+            for (int i = start; i < start + 1000; i++) {
+                array.exch(i, start + random.nextInt(1000));
+            }
+        }
+        Array<Integer> expected = Array.copyOf(array);
+        sortArray(expected);
+
+        Chapter2.adaptiveMergeSort(array, 1, array.length);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortSubarrayUsingAdaptiveMergeSort() {
+        Array<Integer> array = randomIntegers(10000, 100);
+        Array<Integer> original = Array.copyOf(array);
+        int p = 1001;
+        int r = 9000;
+
+        Chapter2.adaptiveMergeSort(array, p, r);
+
+        for (int i = 1; i <= array.length; i++) {
+            if (i < p || i > r) {
+                assertEquals(original.at(i), array.at(i));
+            } else if (i > p) {
+                assertTrue(array.at(i - 1) <= array.at(i));
+            }
+        }
+    }
+
+    @Test
+    public void shouldSortArrayWithAscendingAndDescendingRunsUsingAdaptiveMergeSortStably() {
+        Array<KeyWithIndex> array = Array.ofLength(20000);
+        Random random = new Random(array.length);
+        int i = 1;
+        while (i <= array.length) {
+            int runLength = 1 + random.nextInt(300);
+            boolean ascending = random.nextBoolean();
+            for (int j = 0; j < runLength && i <= array.length; j++, i++) {
+                int key = ascending ? j / 3 : (runLength - j) / 3;
+                array.set(i, new KeyWithIndex(key % 50, i));
+            }
+        }
+
+        Chapter2.adaptiveMergeSort(array, 1, array.length);
+
+        for (i = 2; i <= array.length; i++) {
+            assertTrue(array.at(i - 1).key < array.at(i).key
+                    || array.at(i - 1).key == array.at(i).key && array.at(i - 1).index < array.at(i).index);
+        }
+    }
+
+    private static class KeyWithIndex implements Comparable<KeyWithIndex> {
+
+        private final int key;
+        private final int index;
+
+        KeyWithIndex(int key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+
+        @Override
+        public int compareTo(KeyWithIndex other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+
     @Test
     public void shouldMergeArrayUsingMerge_() {
         Array<Integer> array = Array.of(2, 5, 7, 9, 1, 3, 6, 6, 6, 7, 8, 8);
@@ -176,6 +510,86 @@ public class Chapter2Test {
         assertNull(actualIndex);
     }
 
+    @Test
+    public void shouldFindFirstOccurrenceOfKeyUsingEytzingerSearch() {
+        IntArray array = IntArray.of(1, 2, 3, 5, 6, 6, 6, 7, 7, 8, 8, 9);
+        EytzingerArray eytzingerArray = new EytzingerArray(array);
+
+        Integer actualIndex = Chapter2.eytzingerSearch(eytzingerArray, 6);
+
+        assertEquals(Integer.valueOf(5), actualIndex);
+    }
+
+    @Test
+    public void shouldNotFindNonexistentKeysUsingEytzingerSearch() {
+        IntArray array = IntArray.of(1, 2, 3, 5, 6, 6, 6, 7, 7, 8, 8, 9);
+        EytzingerArray eytzingerArray = new EytzingerArray(array);
+
+        assertNull(Chapter2.eytzingerSearch(eytzingerArray, 0));
+        assertNull(Chapter2.eytzingerSearch(eytzingerArray, 4));
+        assertNull(Chapter2.eytzingerSearch(eytzingerArray, 10));
+        assertNull(Chapter2.eytzingerSearch(new EytzingerArray(IntArray.emptyArray()), 4));
+    }
+
+    @Test
+    public void shouldFindSamePositionsAsBinarySearchUsingEytzingerSearch() {
+        Random random = new Random(1000);
+        for (int n = 1; n <= 1000; n++) {
+            Array<Integer> array = Array.ofLength(n);
+            IntArray primitiveArray = IntArray.ofLength(n);
+            int key = Integer.MIN_VALUE;
+            for (int i = 1; i <= n; i++) {
+                key += 1 + random.nextInt(3);
+                array.set(i, key);
+                primitiveArray.set(i, key);
+            }
+            EytzingerArray eytzingerArray = new EytzingerArray(primitiveArray);
+
+            for (int v = Integer.MIN_VALUE; v <= key + 1; v++) {
+                assertEquals(Chapter2.iterativeBinarySearch(array, v), Chapter2.eytzingerSearch(eytzingerArray, v));
+            }
+        }
+    }
+
+    @Test
+    public void shouldFindKeysUsingBatchBinarySearch() {
+        Array<Integer> array = Array.of(1, 2, 3, 5, 6, 6, 6, 7, 7, 8, 8, 9);
+        Array<Integer> queries = Array.of(8, 4, 6, 1, 10, 6, 0, 9);
+
+        Array<Integer> actualIndices = Chapter2.batchBinarySearch(array, queries);
+
+        assertArrayEquals(Array.of(10, null, 5, 1, null, 5, null, 12), actualIndices);
+    }
+
+    @Test
+    public void shouldFindSamePositionsAsSingleSearchesUsingBatchSearches() {
+        Random random = new Random(5000);
+        int n = 5000;
+        Array<Integer> array = randomIntegers(n, 2 * n);
+        sortArray(array);
+        IntArray primitiveArray = IntArray.ofLength(n);
+        for (int i = 1; i <= n; i++) {
+            primitiveArray.set(i, array.at(i));
+        }
+        EytzingerArray eytzingerArray = new EytzingerArray(primitiveArray);
+        int m = 1000;
+        Array<Integer> queries = Array.ofLength(m);
+        IntArray primitiveQueries = IntArray.ofLength(m);
+        for (int j = 1; j <= m; j++) {
+            queries.set(j, random.nextInt(2 * n + 2) - 1);
+            primitiveQueries.set(j, queries.at(j));
+        }
+
+        Array<Integer> actualIndices = Chapter2.batchBinarySearch(array, queries);
+        IntArray actualPrimitiveIndices = Chapter2.eytzingerSearchAll(eytzingerArray, primitiveQueries);
+
+        for (int j = 1; j <= m; j++) {
+            Integer expectedIndex = Chapter2.eytzingerSearch(eytzingerArray, queries.at(j));
+            assertEquals(expectedIndex, actualIndices.at(j));
+            assertEquals(expectedIndex != null ? expectedIndex : 0, actualPrimitiveIndices.at(j));
+        }
+    }
+
     @Test
     public void shouldFindSum() {
         Array<Integer> array = Array.of(5, 7, 9, 2, 6, 1, 6, 6, 3, 1, 7, 8);
@@ -219,6 +633,53 @@ public class Chapter2Test {
         assertEquals(expectedResult, actualResult, delta);
     }
 
+    @Test
+    public void shouldEvaluatePolynomialUsingHornersRuleOnPrimitiveArray() {
+        DoubleArray coefficients = DoubleArray.of(-1.5, 3.2, 1.6, 3.4, -5.0, 0.0, -1.0, 1.0);
+        double x = -2.0;
+        double expectedResult = -300.7;
+        double delta = 1e-15;
+
+        double actualResult = Chapter2.horner(coefficients, x);
+
+        assertEquals(expectedResult, actualResult, delta);
+    }
+
+    @Test
+    public void shouldEvaluatePolynomialAtManyArgumentsUsingHornersRule() {
+        DoubleArray coefficients = DoubleArray.of(-1.5, 3.2, 1.6, 3.4, -5.0, 0.0, -1.0, 1.0);
+        Random random = new Random(1000);
+        DoubleArray arguments = DoubleArray.ofLength(103);
+        for (int j = 1; j <= arguments.length; j++) {
+            arguments.set(j, 4.0 * random.nextDouble() - 2.0);
+        }
+
+        DoubleArray actualResults = Chapter2.horner(coefficients, arguments);
+
+        assertEquals(arguments.length, actualResults.length);
+        for (int j = 1; j <= arguments.length; j++) {
+            assertEquals(Chapter2.horner(coefficients, arguments.at(j)), actualResults.at(j), 0.0);
+        }
+    }
+
+    @Test
+    public void shouldEvaluatePolynomialAtManyArgumentsUsingHornersRuleInParallel() {
+        DoubleArray coefficients = DoubleArray.of(-1.5, 3.2, 1.6, 3.4, -5.0, 0.0, -1.0, 1.0);
+        Random random = new Random(1000);
+        DoubleArray arguments = DoubleArray.ofLength(1001);
+        for (int j = 1; j <= arguments.length; j++) {
+            arguments.set(j, 4.0 * random.nextDouble() - 2.0);
+        }
+        int threshold = 50;
+
+        DoubleArray actualResults = Chapter2.parallelHorner(coefficients, arguments, threshold);
+
+        assertEquals(arguments.length, actualResults.length);
+        for (int j = 1; j <= arguments.length; j++) {
+            assertEquals(Chapter2.horner(coefficients, arguments.at(j)), actualResults.at(j), 0.0);
+        }
+    }
+
     @Test
     public void shouldEvaluatePolynomialNaively() {
         ZeroBasedIndexedArray<Double> coefficients = ZeroBasedIndexedArray.of(-1.5, 3.2, 1.6, 3.4, -5.0, 0.0, -1.0, 1.0);
@@ -241,6 +702,46 @@ public class Chapter2Test {
         assertInversions(original, actualInversions);
     }
 
+    @Test
+    public void shouldCountInversionsInParallel() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+
+        long actualInversions = Chapter2.parallelCountInversions(array, 1, array.length);
+
+        assertInversions(original, (int) actualInversions);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldCountInversionsInLargeArrayInParallel() {
+        int n = 20000;
+        int threshold = 64;
+        Array<Integer> array = randomIntegers(n, n / 10);
+        Array<Integer> copy = Array.copyOf(array);
+        Array<Integer> original = Array.copyOf(array);
+
+        long actualInversions = Chapter2.parallelCountInversions(array, 1, n, threshold);
+
+        assertEquals(Chapter2.countInversions(copy, 1, n), actualInversions);
+        assertSorted(array);
+        assertShuffled(original, array);
+    }
+
+    @Test
+    public void shouldCountMoreInversionsThanIntCanHoldInParallel() {
+        int n = 100000;
+        Array<Integer> array = Array.ofLength(n);
+        for (int i = 1; i <= n; i++) {
+            array.set(i, n - i);
+        }
+
+        long actualInversions = Chapter2.parallelCountInversions(array, 1, n);
+
+        assertEquals((long) n * (n - 1) / 2, actualInversions);
+        assertSorted(array);
+    }
+
     private void assertInversions(Array<Integer> original, int actualInversions) {
         int expectedInversions = 0;
         for (int i = 1; i <= original.length - 1; i++) {
@@ -2,6 +2,7 @@ package pl.kwojtas.cormenimpl;
 
 import org.junit.Test;
 import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -43,6 +44,15 @@ public class Chapter4Test {
         }
     }
 
+    @Test
+    public void shouldFindMissingIntegerInPrimitiveArray() {
+        IntArray array = IntArray.of(12, 1, 6, 11, 4, 3, 0, 10, 13, 7, 5, 2, 9);
+
+        int actualMissingInteger = Chapter4.findMissingInteger(array);
+
+        assertEquals(8, actualMissingInteger);
+    }
+
     @Test
     public void shouldGetLeftmostMinimaIndicesOfMongeArray() {
         Array<Array<Double>> mongeArray = Array.of(
@@ -1,20 +1,36 @@
 package pl.kwojtas.cormenimpl;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.DoubleArray;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
+import pl.kwojtas.cormenimpl.datastructure.Reservoir;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static pl.kwojtas.cormenimpl.TestUtil.assertShuffled;
+import static pl.kwojtas.cormenimpl.TestUtil.randomIntArray;
 
 public class Chapter5Test {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     @Test
     public void shouldHavePrivateConstructor() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         Constructor<Chapter5> constructor = Chapter5.class.getDeclaredConstructor();
@@ -71,6 +87,99 @@ public class Chapter5Test {
         assertShuffled(original, array);
     }
 
+    @Test
+    public void shouldRandomizeArrayInPlaceInParallel() {
+        Array<Integer> array = TestUtil.randomIntegers(1000, 1000);
+        Array<Integer> original = Array.copyOf(array);
+
+        Chapter5.parallelRandomizeInPlace(array, 16);
+
+        assertShuffled(original, array);
+    }
+
+    @Test
+    public void shouldRandomizeArrayOfIntegersInPlaceInParallel() {
+        IntArray array = randomIntArray(200000);
+        IntArray original = IntArray.copyOf(array);
+
+        Chapter5.parallelRandomizeInPlace(array);
+
+        assertShuffled(original, array);
+    }
+
+    @Test
+    public void shouldRandomizeArrayOfDoublesInPlaceInParallel() {
+        DoubleArray array = DoubleArray.of(0.5, -1.25, 3.0, 0.5, 2.75, -0.125, 1.0, 0.0, -2.5, 4.25, 1.5);
+        DoubleArray original = DoubleArray.copyOf(array);
+
+        Chapter5.parallelRandomizeInPlace(array, 2);
+
+        assertShuffled(original, array);
+    }
+
+    // chi-square test with 4! - 1 = 23 degrees of freedom, the critical value is for significance level 10^-4
+    @Test
+    public void shouldRandomizeArrayInParallelUniformly() {
+        Randomness.setSeed(2016);
+        int n = 4;
+        int permutations = 24;
+        int trials = 1000 * permutations;
+        int[] counts = new int[permutations];
+
+        for (int t = 0; t < trials; t++) {
+            Array<Integer> array = Array.of(0, 1, 2, 3);
+            Chapter5.parallelRandomizeInPlace(array, 1);
+            counts[permutationRank(array, n)]++;
+        }
+
+        assertTrue(chiSquare(counts, trials) < 57.3);
+    }
+
+    // chi-square test with 5! - 1 = 119 degrees of freedom, the critical value is for significance level 10^-4
+    @Test
+    public void shouldRandomizeArrayOfIntegersInParallelUniformly() {
+        Randomness.setSeed(2016);
+        int n = 5;
+        int permutations = 120;
+        int trials = 500 * permutations;
+        int[] counts = new int[permutations];
+
+        for (int t = 0; t < trials; t++) {
+            IntArray array = IntArray.of(0, 1, 2, 3, 4);
+            Chapter5.parallelRandomizeInPlace(array, 2);
+            Array<Integer> permutation = Array.ofLength(n);
+            for (int i = 1; i <= n; i++) {
+                permutation.set(i, array.at(i));
+            }
+            counts[permutationRank(permutation, n)]++;
+        }
+
+        assertTrue(chiSquare(counts, trials) < 185.2);
+    }
+
+    private int permutationRank(Array<Integer> permutation, int n) {
+        int rank = 0;
+        for (int i = 1; i <= n; i++) {
+            int smallerAfter = 0;
+            for (int j = i + 1; j <= n; j++) {
+                if (permutation.at(j) < permutation.at(i)) {
+                    smallerAfter++;
+                }
+            }
+            rank = rank * (n - i + 1) + smallerAfter;
+        }
+        return rank;
+    }
+
+    private double chiSquare(int[] counts, int trials) {
+        double expected = (double) trials / counts.length;
+        double chiSquare = 0.0;
+        for (int count : counts) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+        return chiSquare;
+    }
+
     @Test
     public void shouldPermuteArrayUniformlyBySorting() {
         Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
@@ -81,6 +190,59 @@ public class Chapter5Test {
         assertShuffled(original, array);
     }
 
+    @Test
+    public void shouldPermuteArrayByRadixSorting() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+
+        Array<Integer> actualPermutation = Chapter5.permuteByRadixSorting(array);
+
+        assertSame(array, actualPermutation);
+        assertShuffled(original, array);
+    }
+
+    @Test
+    public void shouldPermuteLongArrayByRadixSorting() {
+        int n = 100000;
+        Array<Integer> array = Array.ofLength(n);
+        for (int i = 1; i <= n; i++) {
+            array.set(i, i);
+        }
+
+        Chapter5.permuteByRadixSorting(array);
+
+        boolean[] found = new boolean[n + 1];
+        int fixedPoints = 0;
+        for (int i = 1; i <= n; i++) {
+            found[array.at(i)] = true;
+            if (array.at(i) == i) {
+                fixedPoints++;
+            }
+        }
+        for (int i = 1; i <= n; i++) {
+            assertTrue(found[i]);
+        }
+        assertTrue(fixedPoints < 10);
+    }
+
+    // chi-square test with 4! - 1 = 23 degrees of freedom, the critical value is for significance level 10^-4
+    @Test
+    public void shouldPermuteArrayByRadixSortingUniformly() {
+        Randomness.setSeed(2016);
+        int n = 4;
+        int permutations = 24;
+        int trials = 1000 * permutations;
+        int[] counts = new int[permutations];
+
+        for (int t = 0; t < trials; t++) {
+            Array<Integer> array = Array.of(0, 1, 2, 3);
+            Chapter5.permuteByRadixSorting(array);
+            counts[permutationRank(array, n)]++;
+        }
+
+        assertTrue(chiSquare(counts, trials) < 57.3);
+    }
+
     @Test
     public void shouldFindKeyUsingRandomSearch() {
         Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
@@ -104,4 +266,204 @@ public class Chapter5Test {
         assertNull(actualIndex);
     }
 
+    private Iterator<Integer> integers(int from, int to) {
+        return IntStream.rangeClosed(from, to).boxed().iterator();
+    }
+
+    private void assertDistinctSample(Reservoir<? extends Number> reservoir, long from, long to) {
+        boolean[] sampled = new boolean[(int) (to - from + 1)];
+        for (int i = 1; i <= reservoir.size; i++) {
+            long item = reservoir.sample.at(i).longValue();
+            assertTrue(from <= item && item <= to);
+            assertFalse(sampled[(int) (item - from)]);
+            sampled[(int) (item - from)] = true;
+        }
+    }
+
+    @Test
+    public void shouldSampleItemsUsingReservoirSampling() {
+        int k = 10;
+
+        Reservoir<Integer> actualReservoir = Chapter5.reservoirSample(integers(1, 100000), k);
+
+        assertEquals(k, actualReservoir.size);
+        assertDistinctSample(actualReservoir, 1, 100000);
+    }
+
+    @Test
+    public void shouldSampleAllItemsOfShortStreamUsingReservoirSampling() {
+        Reservoir<Integer> actualReservoir = Chapter5.reservoirSample(integers(1, 3), 5);
+
+        assertEquals(3, actualReservoir.size);
+        assertDistinctSample(actualReservoir, 1, 3);
+    }
+
+    @Test
+    public void shouldSampleNoItemsIntoReservoirOfCapacityZero() {
+        Reservoir<Integer> actualReservoir = Chapter5.reservoirSample(integers(1, 3), 0);
+
+        assertEquals(0, actualReservoir.size);
+    }
+
+    @Test
+    public void shouldSamplePrimitiveStreamsUsingReservoirSampling() {
+        int k = 7;
+
+        Reservoir<Integer> actualIntReservoir = Chapter5.reservoirSample(IntStream.rangeClosed(1, 1000), k);
+        Reservoir<Long> actualLongReservoir = Chapter5.reservoirSample(LongStream.rangeClosed(1, 1000), k);
+        Reservoir<Double> actualDoubleReservoir = Chapter5.reservoirSample(IntStream.rangeClosed(1, 1000).asDoubleStream(), k);
+
+        assertEquals(k, actualIntReservoir.size);
+        assertDistinctSample(actualIntReservoir, 1, 1000);
+        assertEquals(k, actualLongReservoir.size);
+        assertDistinctSample(actualLongReservoir, 1, 1000);
+        assertEquals(k, actualDoubleReservoir.size);
+        assertDistinctSample(actualDoubleReservoir, 1, 1000);
+    }
+
+    @Test
+    public void shouldContinueReservoirSampling() {
+        Reservoir<Integer> reservoir = Chapter5.reservoirSample(integers(1, 5), 3);
+
+        Chapter5.reservoirSample(reservoir, integers(6, 1000));
+
+        assertEquals(3, reservoir.size);
+        assertDistinctSample(reservoir, 1, 1000);
+    }
+
+    private int pairIndex(Reservoir<? extends Number> reservoir, int n) {
+        int a = reservoir.sample.at(1).intValue();
+        int b = reservoir.sample.at(2).intValue();
+        return (Math.min(a, b) - 1) * n + Math.max(a, b) - 1;
+    }
+
+    private double chiSquare(int[] counts, double[] probabilities, int trials) {
+        double chiSquare = 0.0;
+        for (int i = 0; i < counts.length; i++) {
+            if (probabilities[i] > 0.0) {
+                double expected = probabilities[i] * trials;
+                chiSquare += (counts[i] - expected) * (counts[i] - expected) / expected;
+            } else {
+                assertEquals(0, counts[i]);
+            }
+        }
+        return chiSquare;
+    }
+
+    private double[] uniformPairProbabilities(int n) {
+        double[] probabilities = new double[n * n];
+        for (int a = 1; a <= n; a++) {
+            for (int b = a + 1; b <= n; b++) {
+                probabilities[(a - 1) * n + b - 1] = 2.0 / (n * (n - 1));
+            }
+        }
+        return probabilities;
+    }
+
+    // chi-square test with C(6, 2) - 1 = 14 degrees of freedom, the critical value is for significance level 10^-4
+    @Test
+    public void shouldSampleItemsUniformlyUsingReservoirSampling() {
+        Randomness.setSeed(2016);
+        int n = 6;
+        int trials = 30000;
+        int[] counts = new int[n * n];
+
+        for (int t = 0; t < trials; t++) {
+            Reservoir<Integer> reservoir = Chapter5.reservoirSample(integers(1, n), 2);
+            counts[pairIndex(reservoir, n)]++;
+        }
+
+        assertTrue(chiSquare(counts, uniformPairProbabilities(n), trials) < 42.9);
+    }
+
+    // chi-square test with C(6, 2) - 1 = 14 degrees of freedom, the critical value is for significance level 10^-4
+    @Test
+    public void shouldSampleItemsUniformlyFromMergedReservoirs() {
+        Randomness.setSeed(2016);
+        int n = 6;
+        int trials = 30000;
+        int[] counts = new int[n * n];
+
+        for (int t = 0; t < trials; t++) {
+            Reservoir<Integer> first = Chapter5.reservoirSample(integers(1, 4), 2);
+            Reservoir<Integer> second = Chapter5.reservoirSample(integers(5, n), 2);
+            Reservoir<Integer> merged = Chapter5.mergeReservoirs(first, second);
+            counts[pairIndex(merged, n)]++;
+        }
+
+        assertTrue(chiSquare(counts, uniformPairProbabilities(n), trials) < 42.9);
+    }
+
+    @Test
+    public void shouldContinueSamplingIntoMergedReservoir() {
+        Reservoir<Integer> first = Chapter5.reservoirSample(integers(1, 1000), 5);
+        Reservoir<Integer> second = Chapter5.reservoirSample(integers(1001, 2000), 5);
+        Reservoir<Integer> merged = Chapter5.mergeReservoirs(first, second);
+
+        Chapter5.reservoirSample(merged, integers(2001, 3000));
+
+        assertEquals(5, merged.size);
+        assertDistinctSample(merged, 1, 3000);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenMergingReservoirsOfDifferentCapacities() {
+        Reservoir<Integer> first = new Reservoir<>(2);
+        Reservoir<Integer> second = new Reservoir<>(3);
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Reservoirs of different capacities");
+        Chapter5.mergeReservoirs(first, second);
+    }
+
+    // chi-square test with 3 - 1 = 2 degrees of freedom, the critical value is for significance level 10^-4;
+    // {1, 2} is sampled with probability 1/4 * 1/3 + 1/4 * 1/3 = 1/6, {1, 3} and {2, 3} with 1/4 * 2/3 + 1/2 * 1/2 = 5/12
+    @Test
+    public void shouldSampleItemsProportionallyToWeightsUsingWeightedReservoirSampling() {
+        Randomness.setSeed(2016);
+        int n = 4;
+        double[] weights = {1.0, 1.0, 2.0, 0.0};
+        double[] probabilities = new double[n * n];
+        probabilities[1] = 1.0 / 6;
+        probabilities[2] = 5.0 / 12;
+        probabilities[n + 2] = 5.0 / 12;
+        int trials = 30000;
+        int[] counts = new int[n * n];
+
+        for (int t = 0; t < trials; t++) {
+            Reservoir<Integer> reservoir = Chapter5.weightedReservoirSample(integers(1, n), i -> weights[i - 1], 2);
+            counts[pairIndex(reservoir, n)]++;
+        }
+
+        assertTrue(chiSquare(counts, probabilities, trials) < 18.4);
+    }
+
+    @Test
+    public void shouldSamplePositionsOfWeightsUsingWeightedReservoirSampling() {
+        double[] weights = new double[10000];
+        Arrays.fill(weights, 0, 100, 1.0);
+
+        Reservoir<Long> actualReservoir = Chapter5.weightedReservoirSample(DoubleStream.of(weights), 10);
+
+        assertEquals(10, actualReservoir.size);
+        assertDistinctSample(actualReservoir, 1, 100);
+    }
+
+    @Test
+    public void shouldNotSampleItemsOfZeroWeight() {
+        Reservoir<Integer> actualReservoir = Chapter5.weightedReservoirSample(integers(1, 100), i -> i % 10 == 0 ? 1.0 : 0.0, 20);
+
+        assertEquals(10, actualReservoir.size);
+        for (int i = 1; i <= actualReservoir.size; i++) {
+            assertEquals(0, actualReservoir.sample.at(i) % 10);
+        }
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenSamplingItemOfNegativeWeight() {
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Negative weight");
+        Chapter5.weightedReservoirSample(DoubleStream.of(1.0, -1.0), 1);
+    }
+
 }
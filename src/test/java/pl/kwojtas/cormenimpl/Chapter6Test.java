@@ -3,6 +3,7 @@ package pl.kwojtas.cormenimpl;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import pl.kwojtas.cormenimpl.datastructure.Array;
 import pl.kwojtas.cormenimpl.datastructure.Heap;
 import pl.kwojtas.cormenimpl.datastructure.PriorityQueueWithRanks;
@@ -10,9 +11,14 @@ import pl.kwojtas.cormenimpl.datastructure.PriorityQueueWithRanks.KeyWithRank;
 import pl.kwojtas.cormenimpl.datastructure.SinglyLinkedList;
 import pl.kwojtas.cormenimpl.datastructure.YoungTableau;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -27,6 +33,9 @@ public class Chapter6Test {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void shouldHavePrivateConstructor() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         Constructor<Chapter6> constructor = Chapter6.class.getDeclaredConstructor();
@@ -46,6 +55,16 @@ public class Chapter6Test {
         assertSorted(array);
     }
 
+    @Test
+    public void shouldSortSubarrayUsingHeapsort() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> expected = Array.of(5, 7, 2, 3, 6, 6, 6, 8, 9, 1, 7, 8);
+
+        Chapter6.heapsort(array, 3, 9);
+
+        assertArrayEquals(expected, array);
+    }
+
     @Test
     public void shouldRestoreMinHeapPropertyUsingMinHeapify() {
         Array<Integer> array = Array.of(0, 1, 16, 3, 4, 7, 17, 12, 10, 5, 13, 9, 8, 27);
@@ -414,6 +433,80 @@ public class Chapter6Test {
         }
     }
 
+    private static final int RECORD_SIZE = 12;
+
+    private Path writeRecords(int n, int bound) throws IOException {
+        Random random = new Random(n);
+        ByteBuffer records = ByteBuffer.allocate(n * RECORD_SIZE);
+        for (int i = 0; i <= n - 1; i++) {
+            records.putInt(random.nextInt(bound) - bound / 2);
+            records.putLong(i);
+        }
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, records.array());
+        return file;
+    }
+
+    private void assertRecordsSorted(Path input, Path output) throws IOException {
+        ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(input));
+        ByteBuffer sortedRecords = ByteBuffer.wrap(Files.readAllBytes(output));
+        assertEquals(records.capacity(), sortedRecords.capacity());
+        int n = records.capacity() / RECORD_SIZE;
+        boolean[] found = new boolean[n];
+        for (int i = 0; i <= n - 1; i++) {
+            int key = sortedRecords.getInt(i * RECORD_SIZE);
+            int index = (int) sortedRecords.getLong(i * RECORD_SIZE + 4);
+            if (i > 0) {
+                assertTrue(sortedRecords.getInt((i - 1) * RECORD_SIZE) <= key);
+            }
+            assertFalse(found[index]);
+            assertEquals(records.getInt(index * RECORD_SIZE), key);
+            found[index] = true;
+        }
+    }
+
+    @Test
+    public void shouldSortRecordsInFileUsingExternalMergeSort() throws IOException {
+        Path input = writeRecords(1000, 100);
+        Path output = temporaryFolder.newFile().toPath();
+
+        Chapter6.externalMergeSort(input, output, RECORD_SIZE);
+
+        assertRecordsSorted(input, output);
+    }
+
+    @Test
+    public void shouldSortRecordsInFileUsingExternalMergeSortWithSeveralMergePasses() throws IOException {
+        Path input = writeRecords(20000, 1 << 30);
+        Path output = temporaryFolder.getRoot().toPath().resolve("sorted");
+        long memory = 4 * Chapter6.EXTERNAL_MERGE_SORT_MIN_BUFFER_SIZE;
+
+        Chapter6.externalMergeSort(input, output, RECORD_SIZE, memory);
+
+        assertRecordsSorted(input, output);
+        assertEquals(2, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void shouldSortEmptyFileUsingExternalMergeSort() throws IOException {
+        Path input = temporaryFolder.newFile().toPath();
+        Path output = temporaryFolder.newFile().toPath();
+
+        Chapter6.externalMergeSort(input, output, RECORD_SIZE);
+
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenFileLengthIsNotMultipleOfRecordSize() throws IOException {
+        Path input = writeRecords(10, 100);
+        Path output = temporaryFolder.newFile().toPath();
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("File length is not a multiple of record size");
+        Chapter6.externalMergeSort(input, output, RECORD_SIZE + 1);
+    }
+
     @Test
     public void shouldBuildMaxHeapUsingBuildMaxHeap_() {
         Array<Integer> array = Array.of(20, 4, 0, 13, 5, 17, 1, 2, 6, 10, 7, 27, 11, 3);
@@ -4,18 +4,25 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import pl.kwojtas.cormenimpl.Instrumentation.OperationCounts;
 import pl.kwojtas.cormenimpl.datastructure.Array;
 import pl.kwojtas.cormenimpl.datastructure.Interval;
+import pl.kwojtas.cormenimpl.datastructure.Pair;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 import static org.powermock.api.mockito.PowerMockito.when;
+import static pl.kwojtas.cormenimpl.TestUtil.assertArrayEquals;
 import static pl.kwojtas.cormenimpl.TestUtil.assertShuffled;
 import static pl.kwojtas.cormenimpl.TestUtil.assertSorted;
+import static pl.kwojtas.cormenimpl.TestUtil.randomIntegers;
+import static pl.kwojtas.cormenimpl.TestUtil.sortArray;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({Chapter5.class})
@@ -51,6 +58,115 @@ public class Chapter7Test {
         assertSorted(array);
     }
 
+    @Test
+    public void shouldSortArrayUsingQuicksortWithLomutoPartitioning() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+
+        Chapter7.quicksort(array, 1, array.length, Chapter7.PartitioningScheme.LOMUTO);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortArrayUsingQuicksortWithThreeWayPartitioning() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+
+        Chapter7.quicksort(array, 1, array.length, Chapter7.PartitioningScheme.THREE_WAY);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortArrayUsingQuicksortWithDualPivotPartitioning() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+
+        Chapter7.quicksort(array, 1, array.length, Chapter7.PartitioningScheme.DUAL_PIVOT);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortArrayUsingRandomizedQuicksortWithLomutoPartitioning() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+
+        Chapter7.randomizedQuicksort(array, 1, array.length, Chapter7.PartitioningScheme.LOMUTO);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortArrayUsingRandomizedQuicksortWithThreeWayPartitioning() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+
+        Chapter7.randomizedQuicksort(array, 1, array.length, Chapter7.PartitioningScheme.THREE_WAY);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortArrayUsingRandomizedQuicksortWithDualPivotPartitioning() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+
+        Chapter7.randomizedQuicksort(array, 1, array.length, Chapter7.PartitioningScheme.DUAL_PIVOT);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayWithFewDistinctElementsUsingRandomizedQuicksortWithThreeWayPartitioning() {
+        Array<Integer> array = randomIntegers(100000, 10);
+        Array<Integer> expected = Array.copyOf(array);
+        sortArray(expected);
+
+        Chapter7.randomizedQuicksort(array, 1, array.length, Chapter7.PartitioningScheme.THREE_WAY);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayWithFewDistinctElementsUsingRandomizedQuicksortWithDualPivotPartitioning() {
+        Array<Integer> array = randomIntegers(100000, 10);
+        Array<Integer> expected = Array.copyOf(array);
+        sortArray(expected);
+
+        Chapter7.randomizedQuicksort(array, 1, array.length, Chapter7.PartitioningScheme.DUAL_PIVOT);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldPartitionArrayUsingDualPivotPartition() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+
+        Pair<Integer, Integer> pivotIndices = Chapter7.dualPivotPartition(array, 1, array.length);
+
+        assertShuffled(original, array);
+        assertEquals(Integer.valueOf(5), array.at(pivotIndices.first));
+        assertEquals(Integer.valueOf(8), array.at(pivotIndices.second));
+        for (int i = 1; i < pivotIndices.first; i++) {
+            assertTrue(array.at(i) < 5);
+        }
+        for (int i = pivotIndices.first + 1; i < pivotIndices.second; i++) {
+            assertTrue(5 <= array.at(i) && array.at(i) <= 8);
+        }
+        for (int i = pivotIndices.second + 1; i <= array.length; i++) {
+            assertTrue(array.at(i) > 8);
+        }
+    }
+
     @Test
     public void shouldSortArrayUsingQuicksortWithInsertionSortForSmallArrays() {
         Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
@@ -107,6 +223,106 @@ public class Chapter7Test {
         assertSorted(array);
     }
 
+    @Test
+    public void shouldSortArrayUsingParallelQuicksort() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+
+        Chapter7.parallelQuicksort(array, 1, array.length);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayUsingParallelQuicksort() {
+        Array<Integer> array = randomIntegers(100000, 1000000);
+        Array<Integer> expected = Array.copyOf(array);
+        sortArray(expected);
+        int threshold = 100;
+
+        Chapter7.parallelQuicksort(array, 1, array.length, threshold);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortLargeSortedArrayUsingParallelQuicksort() {
+        Array<Integer> array = Array.ofLength(100000);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, i);
+        }
+        Array<Integer> expected = Array.copyOf(array);
+        int threshold = 100;
+
+        Chapter7.parallelQuicksort(array, 1, array.length, threshold);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayWithManyDuplicatesUsingParallelQuicksortInLinearithmicTime() {
+        Array<Integer> array = randomIntegers(100000, 100);
+        Array<Integer> expected = Array.copyOf(array);
+        sortArray(expected);
+        int threshold = 100;
+
+        OperationCounts actualCounts = Instrumentation.measure(() -> Chapter7.parallelQuicksort(array, 1, array.length, threshold));
+
+        assertArrayEquals(expected, array);
+        if (Instrumentation.ENABLED) {
+            assertTrue(actualCounts.getComparisons() < 20L * array.length);
+        }
+    }
+
+    @Test
+    public void shouldSortArrayUsingIntrosort() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+
+        Chapter7.introsort(array);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayUsingIntrosort() {
+        Array<Integer> array = randomIntegers(100000, 1000000);
+        Array<Integer> expected = Array.copyOf(array);
+        sortArray(expected);
+
+        Chapter7.introsort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayWithFewDistinctElementsUsingIntrosort() {
+        Array<Integer> array = randomIntegers(100000, 10);
+        Array<Integer> expected = Array.copyOf(array);
+        sortArray(expected);
+
+        Chapter7.introsort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayUsingIntrosortWhenPivotsAreAlwaysSmallest() {
+        Array<Integer> array = Array.ofLength(100000);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, i);
+        }
+        Array<Integer> expected = Array.copyOf(array);
+        mockStatic(Chapter5.class);
+        when(Chapter5.random(anyInt(), anyInt())).thenAnswer(invocation -> invocation.getArguments()[0]);
+
+        Chapter7.introsort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
     @Test
     public void shouldPartitionArrayUsingMedianOf3PartitionAsFirstPickedElement() {
         Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
@@ -1,20 +1,35 @@
 package pl.kwojtas.cormenimpl;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.DoubleArray;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
+import pl.kwojtas.cormenimpl.datastructure.LongArray;
 import pl.kwojtas.cormenimpl.datastructure.Point2D;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static pl.kwojtas.cormenimpl.TestUtil.assertArrayEquals;
 import static pl.kwojtas.cormenimpl.TestUtil.assertShuffled;
 import static pl.kwojtas.cormenimpl.TestUtil.assertSorted;
+import static pl.kwojtas.cormenimpl.TestUtil.randomIntArray;
+import static pl.kwojtas.cormenimpl.TestUtil.randomLongArray;
+import static pl.kwojtas.cormenimpl.TestUtil.sortArray;
 
 public class Chapter8Test {
 
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     @Test
     public void shouldHavePrivateConstructor() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         Constructor<Chapter8> constructor = Chapter8.class.getDeclaredConstructor();
@@ -36,6 +51,68 @@ public class Chapter8Test {
         assertSorted(actualSorted);
     }
 
+    @Test
+    public void shouldSortPrimitiveArrayUsingCountingSort() {
+        IntArray array = IntArray.of(6, 0, 2, 0, 1, 3, 4, 6, 1, 3, 2);
+        IntArray original = IntArray.copyOf(array);
+        IntArray actualSorted = IntArray.ofLength(array.length);
+        int boundary = 6;
+
+        Chapter8.countingSort(array, actualSorted, boundary);
+
+        assertShuffled(original, actualSorted);
+        assertSorted(actualSorted);
+    }
+
+    @Test
+    public void shouldSortPrimitiveArrayUsingParallelCountingSort() {
+        IntArray array = IntArray.of(6, 0, 2, 0, 1, 3, 4, 6, 1, 3, 2);
+        IntArray original = IntArray.copyOf(array);
+        IntArray actualSorted = IntArray.ofLength(array.length);
+        int boundary = 6;
+        int chunks = 3;
+
+        Chapter8.parallelCountingSort(array, actualSorted, boundary, chunks);
+
+        assertShuffled(original, actualSorted);
+        assertSorted(actualSorted);
+    }
+
+    @Test
+    public void shouldSortLargePrimitiveArrayUsingParallelCountingSort() {
+        IntArray array = randomIntArray(1000000, 100);
+        IntArray expectedSorted = IntArray.ofLength(array.length);
+        Chapter8.countingSort(array, expectedSorted, 99);
+        IntArray actualSorted = IntArray.ofLength(array.length);
+
+        Chapter8.parallelCountingSort(array, actualSorted, 99);
+
+        assertArrayEquals(expectedSorted, actualSorted);
+    }
+
+    @Test
+    public void shouldSortLargePrimitiveArrayUsingParallelCountingSortWithManyChunks() {
+        IntArray array = randomIntArray(1000000, 100);
+        IntArray expectedSorted = IntArray.ofLength(array.length);
+        Chapter8.countingSort(array, expectedSorted, 99);
+        IntArray actualSorted = IntArray.ofLength(array.length);
+        int chunks = 7;
+
+        Chapter8.parallelCountingSort(array, actualSorted, 99, chunks);
+
+        assertArrayEquals(expectedSorted, actualSorted);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenSortingUsingParallelCountingSortWithNoChunks() {
+        IntArray array = IntArray.of(6, 0, 2, 0, 1, 3, 4, 6, 1, 3, 2);
+        IntArray actualSorted = IntArray.ofLength(array.length);
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Invalid number of chunks");
+        Chapter8.parallelCountingSort(array, actualSorted, 6, 0);
+    }
+
     @Test
     public void shouldSortArrayUsingNonStableCountingSort() {
         Array<Integer> array = Array.of(6, 0, 2, 0, 1, 3, 4, 6, 1, 3, 2);
@@ -114,6 +191,32 @@ public class Chapter8Test {
         assertElementsInRange(original, a, b, actualInRange);
     }
 
+    @Test
+    public void shouldCountNumbersInRangesUsingParallelCumulativeCounts() {
+        IntArray array = IntArray.of(6, 0, 2, 0, 1, 3, 4, 6, 1, 3, 2);
+        Array<Integer> original = Array.of(6, 0, 2, 0, 1, 3, 4, 6, 1, 3, 2);
+        int boundary = 6;
+        int chunks = 4;
+
+        IntArray counts = Chapter8.parallelCumulativeCounts(array, boundary, chunks);
+
+        for (int a = -4; a <= 16; a++) {
+            for (int b = -4; b <= 16; b++) {
+                int actualInRange = Chapter8.countNumbersInRangeFromCounts(counts, a, b);
+                assertElementsInRange(original, a, b, actualInRange);
+            }
+        }
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenComputingParallelCumulativeCountsWithNegativeNumberOfChunks() {
+        IntArray array = IntArray.of(6, 0, 2, 0, 1, 3, 4, 6, 1, 3, 2);
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Invalid number of chunks");
+        Chapter8.parallelCumulativeCounts(array, 6, -1);
+    }
+
     private void assertElementsInRange(Array<Integer> originalArray, int a, int b, int actualInRange) {
         int expectedInRange = 0;
         for (int i = 1; i <= originalArray.length; i++) {
@@ -136,6 +239,86 @@ public class Chapter8Test {
         assertSorted(array);
     }
 
+    @Test
+    public void shouldSortPrimitiveArrayUsingRadixSort() {
+        IntArray array = IntArray.of(24015, 44036, 14014, 62027, 55033, 19012, 63032);
+        IntArray original = IntArray.copyOf(array);
+        int digits = 5;
+
+        Chapter8.radixSort(array, digits);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortPrimitiveArrayUsingBinaryRadixSort() {
+        IntArray array = IntArray.of(24015, -44036, 14014, 0, Integer.MIN_VALUE, 62027, -1, Integer.MAX_VALUE, 19012);
+        IntArray original = IntArray.copyOf(array);
+
+        Chapter8.binaryRadixSort(array);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortLargePrimitiveArrayUsingBinaryRadixSort() {
+        IntArray array = randomIntArray(100000);
+        IntArray original = IntArray.copyOf(array);
+
+        Chapter8.binaryRadixSort(array);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortPrimitiveArrayUsingBinaryRadixSortOnBytes() {
+        IntArray array = randomIntArray(1000);
+        IntArray original = IntArray.copyOf(array);
+        int bits = 8;
+
+        Chapter8.binaryRadixSort(array, bits);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortPrimitiveArrayWithConstantDigitsUsingBinaryRadixSort() {
+        IntArray array = IntArray.of(0x7f00, 0x7f03, 0x7f01, 0x7f02, 0x7f01);
+        IntArray original = IntArray.copyOf(array);
+        int bits = 8;
+
+        Chapter8.binaryRadixSort(array, bits);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortLongPrimitiveArrayUsingBinaryRadixSort() {
+        LongArray array = LongArray.of(24015L, -44036L, 14014L, 0L, Long.MIN_VALUE, 62027L, -1L, Long.MAX_VALUE, 1L << 40);
+        LongArray original = LongArray.copyOf(array);
+
+        Chapter8.binaryRadixSort(array);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortLargeLongPrimitiveArrayUsingBinaryRadixSort() {
+        LongArray array = randomLongArray(100000);
+        LongArray original = LongArray.copyOf(array);
+
+        Chapter8.binaryRadixSort(array);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
     @Test
     public void shouldSortNNumbersLessThanNSquare() {
         Array<Integer> array = Array.of(15, 56, 25, 66, 23, 92, 2, 45, 7, 39);
@@ -158,6 +341,17 @@ public class Chapter8Test {
         assertSorted(array);
     }
 
+    @Test
+    public void shouldSortPrimitiveArrayUsingBucketSort() {
+        DoubleArray array = DoubleArray.of(.15, .92, .56, .25, .66, .23, .9, .2, .45, .7, .39, .99, .3, .01, .33, .91, .65, .33, .21, .67, .16, .22);
+        DoubleArray original = DoubleArray.copyOf(array);
+
+        Chapter8.bucketSort(array);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
     @Test
     public void shouldSortPointsInUnitCircle() {
         Array<Point2D> array = Array.of(new Point2D(.15, .79), new Point2D(.92, .16), new Point2D(.56, .06), new Point2D(.25, .33),
@@ -233,6 +427,127 @@ public class Chapter8Test {
         assertSorted(array);
     }
 
+    @Test
+    public void shouldSortStringsUsingAmericanFlagSort() {
+        Array<String> array = Array.of("lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do",
+                "eiusmod", "tempor", "incididunt", "ut", "labore", "et", "dolore", "magna", "aliqua", "", "Lorem", "d\u0119bina",
+                "dolor", "do", "d\u00f3\u0142", "\u017c\u00f3\u0142w", "dolores", "z\u0105b", "ipsum", "dolorem", "tempora");
+        Array<String> original = Array.copyOf(array);
+
+        Chapter8.americanFlagSort(array);
+
+        assertShuffled(original, array);
+        assertSorted(array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayOfStringsUsingAmericanFlagSort() {
+        Array<String> array = randomStrings(100000);
+        Array<String> expected = Array.copyOf(array);
+        sortArray(expected);
+
+        Chapter8.americanFlagSort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayOfStringsUsingParallelAmericanFlagSort() {
+        Array<String> array = randomStrings(100000);
+        Array<String> expected = Array.copyOf(array);
+        sortArray(expected);
+        int threshold = 100;
+
+        Chapter8.parallelAmericanFlagSort(array, threshold);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortStringsWithLongCommonPrefixUsingAmericanFlagSort() {
+        Array<String> array = stringsWithCommonPrefix(100, 20000);
+        Array<String> expected = Array.copyOf(array);
+        sortArray(expected);
+
+        Chapter8.americanFlagSort(array);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    public void shouldSortStringsWithLongCommonPrefixUsingParallelAmericanFlagSort() {
+        Array<String> array = stringsWithCommonPrefix(100, 20000);
+        Array<String> expected = Array.copyOf(array);
+        sortArray(expected);
+        int threshold = 10;
+
+        Chapter8.parallelAmericanFlagSort(array, threshold);
+
+        assertArrayEquals(expected, array);
+    }
+
+    private static Array<String> stringsWithCommonPrefix(int length, int prefixLength) {
+        char[] prefix = new char[prefixLength];
+        Arrays.fill(prefix, '\u0119');
+        Random random = new Random(length);
+        Array<String> array = Array.ofLength(length);
+        for (int i = 1; i <= length; i++) {
+            array.set(i, new String(prefix) + random.nextInt(1000));
+        }
+        return array;
+    }
+
+    private static Array<String> randomStrings(int length) {
+        Random random = new Random(length);
+        Array<String> array = Array.ofLength(length);
+        for (int i = 1; i <= length; i++) {
+            char[] characters = new char[random.nextInt(12)];
+            for (int j = 0; j < characters.length; j++) {
+                characters[j] = (char) ('a' + random.nextInt(4));
+            }
+            array.set(i, new String(characters));
+        }
+        return array;
+    }
+
+    @Test
+    public void shouldSortByteArraysUsingAmericanFlagSort() {
+        Array<byte[]> array = Array.of(new byte[]{3, 1}, new byte[]{}, new byte[]{-1}, new byte[]{3}, new byte[]{127, 0},
+                new byte[]{-128, 5}, new byte[]{3, 1, 0}, new byte[]{0}, new byte[]{3, -2});
+        Array<byte[]> expected = Array.of(new byte[]{}, new byte[]{0}, new byte[]{3}, new byte[]{3, 1}, new byte[]{3, 1, 0},
+                new byte[]{3, -2}, new byte[]{127, 0}, new byte[]{-128, 5}, new byte[]{-1});
+
+        Chapter8.americanFlagSortOfByteArrays(array);
+
+        assertByteArraysEqual(expected, array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayOfByteArraysUsingParallelAmericanFlagSort() {
+        Array<String> strings = randomStrings(100000);
+        Array<byte[]> array = Array.ofLength(strings.length);
+        for (int i = 1; i <= strings.length; i++) {
+            array.set(i, strings.at(i).getBytes(StandardCharsets.US_ASCII));
+        }
+        sortArray(strings);
+        Array<byte[]> expected = Array.ofLength(strings.length);
+        for (int i = 1; i <= strings.length; i++) {
+            expected.set(i, strings.at(i).getBytes(StandardCharsets.US_ASCII));
+        }
+        int threshold = 100;
+
+        Chapter8.parallelAmericanFlagSortOfByteArrays(array, threshold);
+
+        assertByteArraysEqual(expected, array);
+    }
+
+    private static void assertByteArraysEqual(Array<byte[]> expected, Array<byte[]> actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 1; i <= expected.length; i++) {
+            org.junit.Assert.assertArrayEquals(expected.at(i), actual.at(i));
+        }
+    }
+
     @Test
     public void shouldGroupJugsUsingJugsGroup() {
         Array<Double> jugs1 = Array.of(5.0, 7.0, 9.0, 2.0, 6.0, 8.0, 6.0, 6.0, 3.0, 1.0, 7.0, 8.0);
@@ -4,7 +4,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import pl.kwojtas.cormenimpl.Instrumentation.OperationCounts;
 import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
 import pl.kwojtas.cormenimpl.datastructure.Pair;
 import pl.kwojtas.cormenimpl.datastructure.Point2D;
 
@@ -23,6 +25,7 @@ import static org.powermock.api.mockito.PowerMockito.mockStatic;
 import static org.powermock.api.mockito.PowerMockito.when;
 import static pl.kwojtas.cormenimpl.TestUtil.assertShuffled;
 import static pl.kwojtas.cormenimpl.TestUtil.assertSorted;
+import static pl.kwojtas.cormenimpl.TestUtil.randomIntegers;
 import static pl.kwojtas.cormenimpl.TestUtil.sortArray;
 
 @RunWith(PowerMockRunner.class)
@@ -227,6 +230,112 @@ public class Chapter9Test {
         assertOrderStatistic(original, order, actualOrderStatistic);
     }
 
+    @Test
+    public void shouldFindOrderStatisticUsingFloydRivestSelect() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        Array<Integer> original = Array.copyOf(array);
+        int order = 8;
+
+        int actualOrderStatistic = Chapter9.floydRivestSelect(array, 1, array.length, order);
+
+        assertOrderStatistic(original, order, actualOrderStatistic);
+        assertPartitioned(array, 1, array.length, order);
+    }
+
+    @Test
+    public void shouldFindOrderStatisticUsingFloydRivestSelectInSubarray() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        int order = 2;
+
+        int actualOrderStatistic = Chapter9.floydRivestSelect(array, 4, 9, order);
+
+        assertEquals(3, actualOrderStatistic);
+        assertPartitioned(array, 4, 9, order);
+        assertEquals(Integer.valueOf(5), array.at(1));
+        assertEquals(Integer.valueOf(1), array.at(10));
+    }
+
+    @Test
+    public void shouldFindOrderStatisticsUsingFloydRivestSelectInLargeArray() {
+        Array<Integer> array = randomIntegers(5000, 100);
+        Array<Integer> sorted = Array.copyOf(array);
+        sortArray(sorted);
+
+        for (int order : new int[]{1, 17, 2500, 4321, 5000}) {
+            Array<Integer> copy = Array.copyOf(array);
+
+            int actualOrderStatistic = Chapter9.floydRivestSelect(copy, 1, copy.length, order);
+
+            assertEquals(sorted.at(order).intValue(), actualOrderStatistic);
+            assertPartitioned(copy, 1, copy.length, order);
+        }
+    }
+
+    @Test
+    public void shouldMakeFewerComparisonsInFloydRivestSelectThanInRandomizedSelect() {
+        Array<Integer> array = randomIntegers(100000, Integer.MAX_VALUE);
+        Array<Integer> copy = Array.copyOf(array);
+        int median = (array.length + 1) / 2;
+
+        OperationCounts actualFloydRivestCounts = Instrumentation.measure(() -> Chapter9.floydRivestSelect(array, 1, array.length, median));
+        OperationCounts actualRandomizedSelectCounts = Instrumentation.measure(() -> Chapter9.randomizedSelect(copy, 1, copy.length, median));
+
+        assertEquals(array.at(median), copy.at(median));
+        if (Instrumentation.ENABLED) {
+            assertTrue(actualFloydRivestCounts.getComparisons() < 2L * array.length);
+            assertTrue(actualFloydRivestCounts.getComparisons() < actualRandomizedSelectCounts.getComparisons());
+        }
+    }
+
+    private void assertPartitioned(Array<Integer> array, int p, int r, int order) {
+        int k = p + order - 1;
+        for (int i = p; i < k; i++) {
+            assertTrue(array.at(i) <= array.at(k));
+        }
+        for (int i = k + 1; i <= r; i++) {
+            assertTrue(array.at(i) >= array.at(k));
+        }
+    }
+
+    @Test
+    public void shouldFindOrderStatisticsUsingMultiSelect() {
+        Array<Integer> array = randomIntegers(3000, 1000);
+        Array<Integer> sorted = Array.copyOf(array);
+        sortArray(sorted);
+        IntArray ranks = IntArray.of(1, 2, 2, 700, 1500, 1501, 2999, 3000);
+
+        Array<Integer> actualOrderStatistics = Chapter9.multiSelect(array, 1, array.length, ranks);
+
+        assertEquals(ranks.length, actualOrderStatistics.length);
+        for (int j = 1; j <= ranks.length; j++) {
+            assertEquals(sorted.at(ranks.at(j)), actualOrderStatistics.at(j));
+            assertPartitioned(array, 1, array.length, ranks.at(j));
+        }
+    }
+
+    @Test
+    public void shouldFindOrderStatisticsUsingMultiSelectInSubarray() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8);
+        IntArray ranks = IntArray.of(1, 3, 5);
+
+        Array<Integer> actualOrderStatistics = Chapter9.multiSelect(array, 3, 7, ranks);
+
+        assertEquals(3, actualOrderStatistics.length);
+        assertEquals(Integer.valueOf(2), actualOrderStatistics.at(1));
+        assertEquals(Integer.valueOf(6), actualOrderStatistics.at(2));
+        assertEquals(Integer.valueOf(9), actualOrderStatistics.at(3));
+        assertSorted(Array.of(array.at(3), array.at(5), array.at(7)));
+    }
+
+    @Test
+    public void shouldReturnEmptyArrayUsingMultiSelectWithoutRanks() {
+        Array<Integer> array = Array.of(5, 7, 9, 2, 6);
+
+        Array<Integer> actualOrderStatistics = Chapter9.multiSelect(array, 1, array.length, IntArray.ofLength(0));
+
+        assertEquals(0, actualOrderStatistics.length);
+    }
+
     @Test
     public void shouldReturnEmptySetOfQuantilesOfFirstOrder() {
         Array<Integer> array = Array.of(5, 0, 7, 9, 4, 2, 6, 8, 3, 1);
@@ -329,6 +438,35 @@ public class Chapter9Test {
         assertMedianProximity(original, proximitySize, actualMedianProximity);
     }
 
+    @Test
+    public void shouldFindQuantilesOfLargeArray() {
+        Array<Integer> array = randomIntegers(10000, 1000000);
+        Array<Integer> sorted = Array.copyOf(array);
+        sortArray(sorted);
+        int order = 10;
+
+        Set<Integer> actualQuantiles = Chapter9.quantiles(array, 1, array.length, order);
+
+        for (int j = 1; j < order; j++) {
+            assertTrue(actualQuantiles.contains(sorted.at(j * array.length / order)));
+        }
+    }
+
+    @Test
+    public void shouldFindMedianProximityOfLargeArray() {
+        Array<Integer> array = Array.ofLength(2001);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, 3 * ((i * 7919) % array.length));
+        }
+        Array<Integer> original = Array.copyOf(array);
+        int proximitySize = 100;
+
+        Set<Integer> actualMedianProximity = Chapter9.medianProximity(array, proximitySize);
+
+        assertEquals(proximitySize, actualMedianProximity.size());
+        assertMedianProximity(original, proximitySize, actualMedianProximity);
+    }
+
     private void assertMedianProximity(Array<Integer> array, int proximitySize, Set<Integer> actualMedianProximity) {
         sortArray(array);
         int median = array.at((array.length + 1) / 2);
@@ -1,6 +1,9 @@
 package pl.kwojtas.cormenimpl;
 
 import org.junit.Test;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.DoubleArray;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -9,6 +12,9 @@ import java.lang.reflect.Modifier;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static pl.kwojtas.cormenimpl.TestUtil.assertShuffled;
+import static pl.kwojtas.cormenimpl.TestUtil.assertSorted;
+import static pl.kwojtas.cormenimpl.TestUtil.randomIntegers;
 
 public class FundamentalTest {
 
@@ -120,6 +126,70 @@ public class FundamentalTest {
         assertEquals(second, actualMaximum);
     }
 
+    @Test
+    public void shouldSortEveryZeroOneSequenceUsingSortingNetwork() {
+        for (int n = 0; n <= Fundamental.SORTING_NETWORK_MAX_LENGTH; n++) {
+            for (int bits = 0; bits < 1 << n; bits++) {
+                IntArray array = IntArray.ofLength(n);
+                for (int i = 1; i <= n; i++) {
+                    array.set(i, bits >> (i - 1) & 1);
+                }
+
+                Fundamental.sortingNetworkSort(array, 1, n);
+
+                assertSorted(array);
+                assertEquals(Integer.bitCount(bits), countOnes(array));
+            }
+        }
+    }
+
+    private int countOnes(IntArray array) {
+        int count = 0;
+        for (int i = 1; i <= array.length; i++) {
+            count += array.at(i);
+        }
+        return count;
+    }
+
+    @Test
+    public void shouldSortSubarrayUsingSortingNetwork() {
+        Array<Integer> array = Array.of(16, 5, 3, 9, 12, 1, 15, 8, 2, 14, 7, 11, 4, 13, 10, 6, 0, 17);
+        Array<Integer> original = Array.copyOf(array);
+
+        Fundamental.sortingNetworkSort(array, 2, 17);
+
+        assertEquals(Integer.valueOf(16), array.at(1));
+        assertEquals(Integer.valueOf(17), array.at(18));
+        for (int i = 2; i <= 17; i++) {
+            assertEquals(Integer.valueOf(i - 2), array.at(i));
+        }
+        assertShuffled(original, array);
+    }
+
+    @Test
+    public void shouldSortArraysOfEveryLengthUsingSortingNetwork() {
+        for (int n = 1; n <= Fundamental.SORTING_NETWORK_MAX_LENGTH; n++) {
+            Array<Integer> array = randomIntegers(n, 4);
+            Array<Integer> original = Array.copyOf(array);
+
+            Fundamental.sortingNetworkSort(array, 1, n);
+
+            assertSorted(array);
+            assertShuffled(original, array);
+        }
+    }
+
+    @Test
+    public void shouldSortArrayOfDoublesUsingSortingNetwork() {
+        DoubleArray array = DoubleArray.of(0.5, -1.25, 3.0, 0.5, 2.75, -0.125, 1.0, 0.0, -2.5, 4.25, 1.5);
+        DoubleArray original = DoubleArray.copyOf(array);
+
+        Fundamental.sortingNetworkSort(array, 1, array.length);
+
+        assertSorted(array);
+        assertShuffled(original, array);
+    }
+
     @Test
     public void shouldReturnRandomBit() {
 
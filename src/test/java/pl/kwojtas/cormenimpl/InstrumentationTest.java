@@ -0,0 +1,87 @@
+package pl.kwojtas.cormenimpl;
+
+import org.junit.Test;
+import pl.kwojtas.cormenimpl.Instrumentation.OperationCounts;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.InstrumentedArray;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class InstrumentationTest {
+
+    @Test
+    public void shouldHavePrivateConstructor() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        Constructor<Instrumentation> constructor = Instrumentation.class.getDeclaredConstructor();
+        assertTrue(Modifier.isPrivate(constructor.getModifiers()));
+        constructor.setAccessible(true);
+        constructor.newInstance();
+    }
+
+    @Test
+    public void shouldBeEnabledBySystemProperty() {
+        assertEquals(Boolean.getBoolean(Instrumentation.PROPERTY), Instrumentation.ENABLED);
+    }
+
+    @Test
+    public void shouldCountOperationsOfInsertionSort() {
+        Array<Integer> array = new InstrumentedArray<>(Array.of(4, 3, 2, 1));
+
+        OperationCounts actualCounts = Instrumentation.measure(() -> Chapter2.insertionSort(array));
+
+        assertEquals(15, actualCounts.getReads());
+        assertEquals(9, actualCounts.getWrites());
+        assertEquals(0, actualCounts.getExchanges());
+        assumeTrue(Instrumentation.ENABLED);
+        assertEquals(6, actualCounts.getComparisons());
+        assertEquals(0, actualCounts.getAllocations());
+    }
+
+    @Test
+    public void shouldCountExchangesAndAllocationsOfMergeSortAndQuicksort() {
+        Array<Integer> array = new InstrumentedArray<>(Array.of(5, 7, 9, 2, 6, 8, 6, 6, 3, 1, 7, 8));
+
+        OperationCounts actualMergeSortCounts = Instrumentation.measure(() -> Chapter2.mergeSort(array, 1, array.length));
+        OperationCounts actualQuicksortCounts = Instrumentation.measure(() -> Chapter7.quicksort(array, 1, array.length));
+
+        assertEquals(0, actualMergeSortCounts.getExchanges());
+        assertTrue(actualQuicksortCounts.getExchanges() > 0);
+        assumeTrue(Instrumentation.ENABLED);
+        assertEquals(2 * (array.length - 1), actualMergeSortCounts.getAllocations());
+        assertEquals(0, actualQuicksortCounts.getAllocations());
+        assertTrue(actualQuicksortCounts.getComparisons() > 0);
+    }
+
+    @Test
+    public void shouldNotCountOperationsOutsideMeasurement() {
+        Array<Integer> array = new InstrumentedArray<>(Array.of(4, 3, 2, 1));
+        Chapter2.insertionSort(array);
+
+        OperationCounts actualCounts = Instrumentation.measure(() -> {
+        });
+
+        assertEquals(0, actualCounts.getComparisons());
+        assertEquals(0, actualCounts.getReads());
+        assertEquals(0, actualCounts.getWrites());
+    }
+
+    @Test
+    public void shouldPassCountsToCallback() {
+        AtomicReference<OperationCounts> actualCounts = new AtomicReference<>();
+
+        Instrumentation.measure(() -> Fundamental.less(1, 2), actualCounts::set);
+
+        assertNotNull(actualCounts.get());
+        assumeTrue(Instrumentation.ENABLED);
+        assertEquals(1, actualCounts.get().getComparisons());
+        assertEquals("comparisons=1, reads=0, writes=0, exchanges=0, allocations=0", actualCounts.get().toString());
+    }
+
+}
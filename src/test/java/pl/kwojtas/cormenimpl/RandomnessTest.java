@@ -0,0 +1,151 @@
+package pl.kwojtas.cormenimpl;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RandomnessTest {
+
+    @After
+    public void restoreDefaultSourceFactory() {
+        Randomness.setSourceFactory(Randomness.SPLITTABLE_RANDOM);
+    }
+
+    @Test
+    public void shouldHavePrivateConstructor() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        Constructor<Randomness> constructor = Randomness.class.getDeclaredConstructor();
+        assertTrue(Modifier.isPrivate(constructor.getModifiers()));
+        constructor.setAccessible(true);
+        constructor.newInstance();
+    }
+
+    private long[] drawNumbers(int count) {
+        long[] numbers = new long[count];
+        for (int i = 0; i < count; i++) {
+            numbers[i] = Randomness.current().nextLong();
+        }
+        return numbers;
+    }
+
+    @Test
+    public void shouldReproduceNumbersAfterSettingSameSeed() {
+        Randomness.setSeed(42);
+        long[] expectedNumbers = drawNumbers(10);
+
+        Randomness.setSeed(42);
+        long[] actualNumbers = drawNumbers(10);
+
+        org.junit.Assert.assertArrayEquals(expectedNumbers, actualNumbers);
+        assertEquals(42, Randomness.getSeed());
+    }
+
+    @Test
+    public void shouldReproduceNumbersOfAlgorithmsAfterSettingSameSeed() {
+        Randomness.setSeed(2016);
+        int expectedNumber = Chapter5.random(1, 1000000);
+        int expectedBit = Fundamental.random();
+
+        Randomness.setSeed(2016);
+        int actualNumber = Chapter5.random(1, 1000000);
+        int actualBit = Fundamental.random();
+
+        assertEquals(expectedNumber, actualNumber);
+        assertEquals(expectedBit, actualBit);
+    }
+
+    @Test
+    public void shouldGiveEachThreadItsOwnSource() throws InterruptedException {
+        Randomness.Source source = Randomness.current();
+        Randomness.Source[] otherSource = new Randomness.Source[1];
+        Thread thread = new Thread(() -> otherSource[0] = Randomness.current());
+
+        thread.start();
+        thread.join();
+
+        assertSame(source, Randomness.current());
+        assertNotSame(source, otherSource[0]);
+        assertNotEquals(source.nextLong(), otherSource[0].nextLong());
+    }
+
+    @Test
+    public void shouldCreateSourcesUsingFactory() {
+        Randomness.setSourceFactory(Randomness.XOROSHIRO128_PLUS_PLUS);
+
+        Randomness.Source source = Randomness.current();
+
+        assertTrue(source instanceof Randomness.Xoroshiro128PlusPlus);
+    }
+
+    @Test
+    public void shouldGenerateNumbersUsingXoroshiro128PlusPlus() {
+        Randomness.Source source = new Randomness.Xoroshiro128PlusPlus(1, 2);
+
+        long actualFirstNumber = source.nextLong();
+        long actualSecondNumber = source.nextLong();
+
+        assertEquals(393217L, actualFirstNumber);
+        assertEquals(669327710093319L, actualSecondNumber);
+    }
+
+    @Test
+    public void shouldDrawNumbersFromInterval() {
+        Randomness.Source source = new Randomness.Xoroshiro128PlusPlus(7);
+        int[] counts = new int[3];
+
+        for (int i = 0; i < 30000; i++) {
+            int number = source.nextInt(5, 7);
+            assertTrue(5 <= number && number <= 7);
+            counts[number - 5]++;
+        }
+
+        for (int count : counts) {
+            assertTrue(count > 9000 && count < 11000);
+        }
+    }
+
+    @Test
+    public void shouldDrawNumbersFromWholeRangeOfIntegers() {
+        AtomicLong state = new AtomicLong(-1L);
+        Randomness.Source source = state::getAndIncrement;
+
+        int actualNumber = source.nextInt(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        assertEquals(Integer.MAX_VALUE, actualNumber);
+    }
+
+    @Test
+    public void shouldReturnLowerBoundForEmptyInterval() {
+        Randomness.Source source = () -> {
+            throw new IllegalStateException();
+        };
+
+        int actualNumber = source.nextInt(3, 3);
+
+        assertEquals(3, actualNumber);
+    }
+
+    @Test
+    public void shouldDrawNumbersFromUnitInterval() {
+        Randomness.Source maximumSource = () -> -1L;
+        Randomness.Source minimumSource = () -> 0L;
+
+        double actualMaximum = maximumSource.nextDouble();
+        double actualMinimum = minimumSource.nextDouble();
+
+        assertTrue(actualMaximum < 1.0);
+        assertEquals(0.0, actualMinimum, 0.0);
+        assertEquals(1, maximumSource.nextBit());
+        assertEquals(0, minimumSource.nextBit());
+    }
+
+}
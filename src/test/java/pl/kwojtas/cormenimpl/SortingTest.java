@@ -0,0 +1,178 @@
+package pl.kwojtas.cormenimpl;
+
+import org.junit.Test;
+import pl.kwojtas.cormenimpl.Instrumentation.OperationCounts;
+import pl.kwojtas.cormenimpl.datastructure.Array;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static pl.kwojtas.cormenimpl.TestUtil.assertShuffled;
+import static pl.kwojtas.cormenimpl.TestUtil.assertSorted;
+import static pl.kwojtas.cormenimpl.TestUtil.randomIntegers;
+import static pl.kwojtas.cormenimpl.TestUtil.sortArray;
+
+public class SortingTest {
+
+    @Test
+    public void shouldHavePrivateConstructor() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        Constructor<Sorting> constructor = Sorting.class.getDeclaredConstructor();
+        assertTrue(Modifier.isPrivate(constructor.getModifiers()));
+        constructor.setAccessible(true);
+        constructor.newInstance();
+    }
+
+    private Array<Integer> sortAndCheck(Array<Integer> array, Sorting.Algorithm expectedAlgorithm) {
+        Array<Integer> original = Array.copyOf(array);
+
+        Sorting.Decision actualDecision = Sorting.sort(array);
+
+        assertEquals(expectedAlgorithm, actualDecision.getAlgorithm());
+        assertEquals(expectedAlgorithm + ": " + actualDecision.getReason(), actualDecision.toString());
+        assertSorted(array);
+        assertShuffled(original, array);
+        return array;
+    }
+
+    @Test
+    public void shouldSortShortArrayUsingInsertionSort() {
+        Array<Integer> array = Array.of(5, 2, 4, 6, 1, 3);
+
+        sortAndCheck(array, Sorting.Algorithm.INSERTION_SORT);
+    }
+
+    @Test
+    public void shouldSortEmptyArray() {
+        Array<Integer> array = Array.emptyArray();
+
+        Sorting.Decision actualDecision = Sorting.sort(array);
+
+        assertEquals(Sorting.Algorithm.INSERTION_SORT, actualDecision.getAlgorithm());
+        assertEquals(0, array.length);
+    }
+
+    @Test
+    public void shouldSortNearlySortedArrayUsingAdaptiveMergeSort() {
+        Array<Integer> array = Array.ofLength(1000);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, 1000000 * i);
+        }
+        array.exch(100, 700);
+
+        sortAndCheck(array, Sorting.Algorithm.ADAPTIVE_MERGE_SORT);
+    }
+
+    @Test
+    public void shouldSortReversedArrayUsingAdaptiveMergeSort() {
+        Array<Integer> array = Array.ofLength(1000);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, -1000000 * i);
+        }
+
+        sortAndCheck(array, Sorting.Algorithm.ADAPTIVE_MERGE_SORT);
+    }
+
+    @Test
+    public void shouldSortIntegersOfNarrowRangeUsingCountingSort() {
+        Array<Integer> array = randomIntegers(1000, 500);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, array.at(i) - 250);
+        }
+
+        sortAndCheck(array, Sorting.Algorithm.COUNTING_SORT);
+    }
+
+    @Test
+    public void shouldSortIntegersOfWideRangeUsingRadixSort() {
+        Random random = new Random(1000);
+        Array<Integer> array = Array.ofLength(1000);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, random.nextInt());
+        }
+
+        sortAndCheck(array, Sorting.Algorithm.RADIX_SORT);
+    }
+
+    @Test
+    public void shouldSortShortArrayOfIntegersOfWideRangeUsingIntrosort() {
+        Random random = new Random(100);
+        Array<Integer> array = Array.ofLength(100);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, random.nextInt());
+        }
+
+        sortAndCheck(array, Sorting.Algorithm.INTROSORT);
+    }
+
+    @Test
+    public void shouldSortArrayWithFewDistinctElementsUsingIntrosort() {
+        Random random = new Random(2000);
+        Array<String> array = Array.ofLength(2000);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, "key" + random.nextInt(8));
+        }
+        Array<String> original = Array.copyOf(array);
+
+        Sorting.Decision actualDecision = Sorting.sort(array);
+
+        assertEquals(Sorting.Algorithm.INTROSORT, actualDecision.getAlgorithm());
+        assertTrue(actualDecision.getReason().contains("distinct"));
+        assertSorted(array);
+        assertShuffled(original, array);
+    }
+
+    @Test
+    public void shouldSortRandomStringsUsingIntrosort() {
+        Random random = new Random(2000);
+        Array<String> array = Array.ofLength(2000);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, Integer.toString(random.nextInt()));
+        }
+        Array<String> original = Array.copyOf(array);
+
+        Sorting.Decision actualDecision = Sorting.sort(array);
+
+        assertEquals(Sorting.Algorithm.INTROSORT, actualDecision.getAlgorithm());
+        assertSorted(array);
+        assertShuffled(original, array);
+    }
+
+    @Test
+    public void shouldSortLargeArrayWithManyDuplicatesUsingThreeWayPartitioning() {
+        Random random = new Random(Sorting.PARALLEL_SORT_MIN_LENGTH);
+        Array<String> array = Array.ofLength(Sorting.PARALLEL_SORT_MIN_LENGTH);
+        for (int i = 1; i <= array.length; i++) {
+            array.set(i, "key" + random.nextInt(100));
+        }
+        Array<String> expected = Array.copyOf(array);
+        sortArray(expected);
+        Sorting.Algorithm expectedAlgorithm = ForkJoinPool.getCommonPoolParallelism() > 1
+                ? Sorting.Algorithm.PARALLEL_QUICKSORT : Sorting.Algorithm.INTROSORT;
+
+        Sorting.Decision actualChosenDecision = Sorting.chooseAlgorithm(array);
+        OperationCounts actualCounts = Instrumentation.measure(() -> Sorting.sort(array));
+
+        assertEquals(expectedAlgorithm, actualChosenDecision.getAlgorithm());
+        TestUtil.assertArrayEquals(expected, array);
+        assumeTrue(Instrumentation.ENABLED);
+        assertTrue(actualCounts.getComparisons() < 20L * array.length);
+    }
+
+    @Test
+    public void shouldChooseAlgorithmWithoutSortingArray() {
+        Array<Integer> array = randomIntegers(1000, 1000);
+        Array<Integer> original = Array.copyOf(array);
+
+        Sorting.Decision actualDecision = Sorting.chooseAlgorithm(array);
+
+        assertEquals(Sorting.Algorithm.COUNTING_SORT, actualDecision.getAlgorithm());
+        TestUtil.assertArrayEquals(original, array);
+    }
+
+}
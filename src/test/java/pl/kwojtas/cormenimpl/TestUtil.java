@@ -1,9 +1,14 @@
 package pl.kwojtas.cormenimpl;
 
 import pl.kwojtas.cormenimpl.datastructure.Array;
+import pl.kwojtas.cormenimpl.datastructure.DoubleArray;
+import pl.kwojtas.cormenimpl.datastructure.IntArray;
+import pl.kwojtas.cormenimpl.datastructure.LongArray;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -18,6 +23,13 @@ public class TestUtil {
         }
     }
 
+    public static void assertArrayEquals(IntArray expected, IntArray actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 1; i <= expected.length; i++) {
+            assertEquals(expected.at(i), actual.at(i));
+        }
+    }
+
     private static <E> void assertArrayContains(Array<E> array, E element) {
         boolean found = false;
         for (int i = 1; i <= array.length && !found; i++) {
@@ -36,6 +48,42 @@ public class TestUtil {
         }
     }
 
+    public static Array<Integer> randomIntegers(int length, int bound) {
+        Random random = new Random(length);
+        Array<Integer> array = Array.ofLength(length);
+        for (int i = 1; i <= length; i++) {
+            array.set(i, random.nextInt(bound));
+        }
+        return array;
+    }
+
+    public static IntArray randomIntArray(int length) {
+        Random random = new Random(length);
+        IntArray array = IntArray.ofLength(length);
+        for (int i = 1; i <= length; i++) {
+            array.set(i, random.nextInt());
+        }
+        return array;
+    }
+
+    public static IntArray randomIntArray(int length, int bound) {
+        Random random = new Random(length);
+        IntArray array = IntArray.ofLength(length);
+        for (int i = 1; i <= length; i++) {
+            array.set(i, random.nextInt(bound));
+        }
+        return array;
+    }
+
+    public static LongArray randomLongArray(int length) {
+        Random random = new Random(length);
+        LongArray array = LongArray.ofLength(length);
+        for (int i = 1; i <= length; i++) {
+            array.set(i, random.nextLong());
+        }
+        return array;
+    }
+
     public static <E extends Comparable<? super E>> void sortArray(Array<E> array, Comparator<E> comparator) {
         ArrayList<E> arrayList = new ArrayList<>();
         for (int i = 1; i <= array.length; i++) {
@@ -63,4 +111,64 @@ public class TestUtil {
         }
     }
 
+    private static int[] sortedElements(IntArray array) {
+        int[] elements = new int[array.length];
+        for (int i = 1; i <= array.length; i++) {
+            elements[i - 1] = array.at(i);
+        }
+        Arrays.sort(elements);
+        return elements;
+    }
+
+    private static long[] sortedElements(LongArray array) {
+        long[] elements = new long[array.length];
+        for (int i = 1; i <= array.length; i++) {
+            elements[i - 1] = array.at(i);
+        }
+        Arrays.sort(elements);
+        return elements;
+    }
+
+    private static double[] sortedElements(DoubleArray array) {
+        double[] elements = new double[array.length];
+        for (int i = 1; i <= array.length; i++) {
+            elements[i - 1] = array.at(i);
+        }
+        Arrays.sort(elements);
+        return elements;
+    }
+
+    public static void assertShuffled(IntArray original, IntArray shuffled) {
+        assertEquals(original.length, shuffled.length);
+        org.junit.Assert.assertArrayEquals(sortedElements(original), sortedElements(shuffled));
+    }
+
+    public static void assertShuffled(LongArray original, LongArray shuffled) {
+        assertEquals(original.length, shuffled.length);
+        org.junit.Assert.assertArrayEquals(sortedElements(original), sortedElements(shuffled));
+    }
+
+    public static void assertShuffled(DoubleArray original, DoubleArray shuffled) {
+        assertEquals(original.length, shuffled.length);
+        org.junit.Assert.assertArrayEquals(sortedElements(original), sortedElements(shuffled), 0.0);
+    }
+
+    public static void assertSorted(IntArray array) {
+        for (int i = 2; i <= array.length; i++) {
+            assertTrue(array.at(i - 1) <= array.at(i));
+        }
+    }
+
+    public static void assertSorted(LongArray array) {
+        for (int i = 2; i <= array.length; i++) {
+            assertTrue(array.at(i - 1) <= array.at(i));
+        }
+    }
+
+    public static void assertSorted(DoubleArray array) {
+        for (int i = 2; i <= array.length; i++) {
+            assertTrue(array.at(i - 1) <= array.at(i));
+        }
+    }
+
 }
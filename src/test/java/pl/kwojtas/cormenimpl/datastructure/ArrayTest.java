@@ -111,4 +111,42 @@ public class ArrayTest {
         assertEquals("aaa", array.at(3));
     }
 
+    @Test
+    public void shouldNotShareContentsWithInitialElements() {
+        String[] contents = new String[]{"aaa", "bbb", "ccc"};
+        Array<String> array = Array.of(contents);
+
+        array.set(1, "xyz");
+
+        assertEquals("aaa", contents[0]);
+    }
+
+    @Test
+    public void shouldReturnElementFromArrayWithoutCheckingPosition() {
+        Array<String> array = Array.of("aaa", "bbb", "ccc");
+
+        String actualElement = array.atUnchecked(2);
+
+        assertEquals("bbb", actualElement);
+    }
+
+    @Test
+    public void shouldSetElementInArrayWithoutCheckingPosition() {
+        Array<String> array = Array.of("aaa", "bbb", "ccc");
+        String newElement = "xyz";
+
+        array.setUnchecked(3, newElement);
+
+        assertEquals(newElement, array.at(3));
+    }
+
+    @Test
+    public void shouldExchangeTwoElementsInArrayWithoutCheckingPositions() {
+        Array<String> array = Array.of("aaa", "bbb", "ccc");
+
+        array.exchUnchecked(1, 3);
+
+        assertEquals("ccc", array.at(1));
+        assertEquals("aaa", array.at(3));
+    }
 }
@@ -0,0 +1,50 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class BinaryNumberTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void shouldCreateNumberFromBits() {
+        IntArray bits = IntArray.ofLength(70);
+        bits.set(1, 1);
+        bits.set(3, 1);
+        bits.set(64, 1);
+        bits.set(70, 1);
+
+        BinaryNumber number = BinaryNumber.of(bits);
+
+        assertEquals(70, number.length);
+        assertArrayEquals(new long[]{0x8000000000000005L, 0x20L}, number.words);
+        for (int i = 1; i <= bits.length; i++) {
+            assertEquals(bits.at(i), number.bitAt(i));
+        }
+    }
+
+    @Test
+    public void shouldClearBit() {
+        BinaryNumber number = BinaryNumber.of(IntArray.of(1, 1, 1));
+
+        number.setBit(2, 0);
+
+        assertArrayEquals(new long[]{5L}, number.words);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenAccessingBitOutOfBound() {
+        BinaryNumber number = BinaryNumber.ofLength(10);
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Array index out of bound");
+        number.bitAt(11);
+    }
+
+}
@@ -0,0 +1,157 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.junit.Assert.assertEquals;
+
+public class DoubleArrayTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void shouldCreateArrayWithInitialContents() {
+        double[] contents = new double[]{3.0, 1.4, 1.5};
+
+        DoubleArray array = DoubleArray.of(contents);
+
+        assertEquals(contents.length, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(contents[i - 1], array.at(i), 0.0);
+        }
+    }
+
+    @Test
+    public void shouldCreateArrayIndependentOfInitialContents() {
+        double[] contents = new double[]{3.0, 1.4, 1.5};
+
+        DoubleArray array = DoubleArray.of(contents);
+        contents[0] = 4.2;
+
+        assertEquals(3.0, array.at(1), 0.0);
+    }
+
+    @Test
+    public void shouldCreateArrayOfGivenLength() {
+
+        DoubleArray array = DoubleArray.ofLength(3);
+
+        assertEquals(3, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(0.0, array.at(i), 0.0);
+        }
+    }
+
+    @Test
+    public void shouldCreateArrayByCopyingOtherArray() {
+        DoubleArray otherArray = DoubleArray.of(3.0, 1.4, 1.5);
+
+        DoubleArray array = DoubleArray.copyOf(otherArray);
+
+        assertEquals(otherArray.length, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(otherArray.at(i), array.at(i), 0.0);
+        }
+    }
+
+    @Test
+    public void shouldReturnElementFromArray() {
+        DoubleArray array = DoubleArray.of(3.0, 1.4, 1.5);
+
+        double actualElement = array.at(2);
+
+        assertEquals(1.4, actualElement, 0.0);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenAccessingInvalidPositionInArray() {
+        DoubleArray array = DoubleArray.of(3.0, 1.4, 1.5);
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Array index out of bound");
+        array.at(5);
+    }
+
+    @Test
+    public void shouldSetElementInArray() {
+        DoubleArray array = DoubleArray.of(3.0, 1.4, 1.5);
+        double newElement = 9.2;
+
+        array.set(3, newElement);
+
+        assertEquals(newElement, array.at(3), 0.0);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenSettingOnInvalidPositionInArray() {
+        DoubleArray array = DoubleArray.of(3.0, 1.4, 1.5);
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Array index out of bound");
+        array.set(5, 9.2);
+    }
+
+    @Test
+    public void shouldSetArrayContentsByCopyingOtherArray() {
+        DoubleArray otherArray = DoubleArray.of(3.0, 1.4, 1.5);
+        DoubleArray array = DoubleArray.ofLength(otherArray.length);
+
+        array.set(otherArray);
+
+        assertEquals(otherArray.length, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(otherArray.at(i), array.at(i), 0.0);
+        }
+    }
+
+    @Test
+    public void shouldSetArrayContentsByCopyingItself() {
+        double[] contents = new double[]{3.0, 1.4, 1.5};
+        DoubleArray array = DoubleArray.of(contents);
+
+        array.set(array);
+
+        assertEquals(contents.length, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(contents[i - 1], array.at(i), 0.0);
+        }
+    }
+
+    @Test
+    public void shouldExchangeTwoElementsInArray() {
+        DoubleArray array = DoubleArray.of(3.0, 1.4, 1.5);
+
+        array.exch(1, 3);
+
+        assertEquals(1.5, array.at(1), 0.0);
+        assertEquals(3.0, array.at(3), 0.0);
+    }
+
+    @Test
+    public void shouldReturnElementFromArrayWithoutCheckingPosition() {
+        DoubleArray array = DoubleArray.of(3.0, 1.4, 1.5);
+
+        assertEquals(1.4, array.atUnchecked(2), 0.0);
+    }
+
+    @Test
+    public void shouldSetElementInArrayWithoutCheckingPosition() {
+        DoubleArray array = DoubleArray.of(3.0, 1.4, 1.5);
+
+        array.setUnchecked(3, 9.2);
+
+        assertEquals(9.2, array.at(3), 0.0);
+    }
+
+    @Test
+    public void shouldExchangeTwoElementsInArrayWithoutCheckingPositions() {
+        DoubleArray array = DoubleArray.of(3.0, 1.4, 1.5);
+
+        array.exchUnchecked(1, 3);
+
+        assertEquals(1.5, array.at(1), 0.0);
+        assertEquals(3.0, array.at(3), 0.0);
+    }
+}
@@ -0,0 +1,24 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class EytzingerArrayTest {
+
+    @Test
+    public void shouldCreateEytzingerArrayFromSortedArray() {
+        IntArray sortedArray = IntArray.of(10, 20, 30, 40, 50, 60);
+
+        EytzingerArray eytzingerArray = new EytzingerArray(sortedArray);
+
+        assertEquals(sortedArray.length, eytzingerArray.length);
+        int[] expectedKeys = {40, 20, 60, 10, 30, 50};
+        int[] expectedPositions = {4, 2, 6, 1, 3, 5};
+        for (int k = 1; k <= eytzingerArray.length; k++) {
+            assertEquals(expectedKeys[k - 1], eytzingerArray.keyAt(k));
+            assertEquals(expectedPositions[k - 1], eytzingerArray.positionAt(k));
+        }
+    }
+
+}
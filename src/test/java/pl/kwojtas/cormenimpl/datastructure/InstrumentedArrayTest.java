@@ -0,0 +1,30 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+import org.junit.Test;
+import pl.kwojtas.cormenimpl.Instrumentation;
+import pl.kwojtas.cormenimpl.Instrumentation.OperationCounts;
+
+import static org.junit.Assert.assertEquals;
+
+public class InstrumentedArrayTest {
+
+    @Test
+    public void shouldCountOperationsOnArray() {
+        InstrumentedArray<Integer> array = new InstrumentedArray<>(Array.of(1, 2, 3));
+
+        OperationCounts actualCounts = Instrumentation.measure(() -> {
+            array.set(1, array.at(3));
+            array.setUnchecked(2, array.atUnchecked(1));
+            array.exch(1, 3);
+            array.exchUnchecked(2, 3);
+        });
+
+        assertEquals(2, actualCounts.getReads());
+        assertEquals(2, actualCounts.getWrites());
+        assertEquals(2, actualCounts.getExchanges());
+        assertEquals(Integer.valueOf(3), array.at(1));
+        assertEquals(Integer.valueOf(3), array.at(2));
+        assertEquals(Integer.valueOf(3), array.at(3));
+    }
+
+}
@@ -0,0 +1,26 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+import org.junit.Test;
+import pl.kwojtas.cormenimpl.Chapter6;
+import pl.kwojtas.cormenimpl.Instrumentation;
+import pl.kwojtas.cormenimpl.Instrumentation.OperationCounts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InstrumentedHeapTest {
+
+    @Test
+    public void shouldCountOperationsOnHeap() {
+        InstrumentedHeap<Integer> heap = new InstrumentedHeap<>(Array.of(16, 14, 10, 8, 7, 9, 3, 2, 4, 1));
+
+        OperationCounts actualCounts = Instrumentation.measure(() -> Chapter6.heapExtractMax(heap));
+
+        assertEquals(9, heap.heapSize);
+        assertEquals(Integer.valueOf(14), heap.at(1));
+        assertTrue(actualCounts.getReads() > 0);
+        assertTrue(actualCounts.getWrites() > 0);
+        assertTrue(actualCounts.getExchanges() > 0);
+    }
+
+}
@@ -0,0 +1,157 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.junit.Assert.assertEquals;
+
+public class IntArrayTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void shouldCreateArrayWithInitialContents() {
+        int[] contents = new int[]{3, 14, 15};
+
+        IntArray array = IntArray.of(contents);
+
+        assertEquals(contents.length, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(contents[i - 1], array.at(i));
+        }
+    }
+
+    @Test
+    public void shouldCreateArrayIndependentOfInitialContents() {
+        int[] contents = new int[]{3, 14, 15};
+
+        IntArray array = IntArray.of(contents);
+        contents[0] = 42;
+
+        assertEquals(3, array.at(1));
+    }
+
+    @Test
+    public void shouldCreateArrayOfGivenLength() {
+
+        IntArray array = IntArray.ofLength(3);
+
+        assertEquals(3, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(0, array.at(i));
+        }
+    }
+
+    @Test
+    public void shouldCreateArrayByCopyingOtherArray() {
+        IntArray otherArray = IntArray.of(3, 14, 15);
+
+        IntArray array = IntArray.copyOf(otherArray);
+
+        assertEquals(otherArray.length, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(otherArray.at(i), array.at(i));
+        }
+    }
+
+    @Test
+    public void shouldReturnElementFromArray() {
+        IntArray array = IntArray.of(3, 14, 15);
+
+        int actualElement = array.at(2);
+
+        assertEquals(14, actualElement);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenAccessingInvalidPositionInArray() {
+        IntArray array = IntArray.of(3, 14, 15);
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Array index out of bound");
+        array.at(5);
+    }
+
+    @Test
+    public void shouldSetElementInArray() {
+        IntArray array = IntArray.of(3, 14, 15);
+        int newElement = 92;
+
+        array.set(3, newElement);
+
+        assertEquals(newElement, array.at(3));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenSettingOnInvalidPositionInArray() {
+        IntArray array = IntArray.of(3, 14, 15);
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Array index out of bound");
+        array.set(5, 92);
+    }
+
+    @Test
+    public void shouldSetArrayContentsByCopyingOtherArray() {
+        IntArray otherArray = IntArray.of(3, 14, 15);
+        IntArray array = IntArray.ofLength(otherArray.length);
+
+        array.set(otherArray);
+
+        assertEquals(otherArray.length, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(otherArray.at(i), array.at(i));
+        }
+    }
+
+    @Test
+    public void shouldSetArrayContentsByCopyingItself() {
+        int[] contents = new int[]{3, 14, 15};
+        IntArray array = IntArray.of(contents);
+
+        array.set(array);
+
+        assertEquals(contents.length, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(contents[i - 1], array.at(i));
+        }
+    }
+
+    @Test
+    public void shouldExchangeTwoElementsInArray() {
+        IntArray array = IntArray.of(3, 14, 15);
+
+        array.exch(1, 3);
+
+        assertEquals(15, array.at(1));
+        assertEquals(3, array.at(3));
+    }
+
+    @Test
+    public void shouldReturnElementFromArrayWithoutCheckingPosition() {
+        IntArray array = IntArray.of(3, 14, 15);
+
+        assertEquals(14, array.atUnchecked(2));
+    }
+
+    @Test
+    public void shouldSetElementInArrayWithoutCheckingPosition() {
+        IntArray array = IntArray.of(3, 14, 15);
+
+        array.setUnchecked(3, 92);
+
+        assertEquals(92, array.at(3));
+    }
+
+    @Test
+    public void shouldExchangeTwoElementsInArrayWithoutCheckingPositions() {
+        IntArray array = IntArray.of(3, 14, 15);
+
+        array.exchUnchecked(1, 3);
+
+        assertEquals(15, array.at(1));
+        assertEquals(3, array.at(3));
+    }
+}
@@ -0,0 +1,157 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.junit.Assert.assertEquals;
+
+public class LongArrayTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void shouldCreateArrayWithInitialContents() {
+        long[] contents = new long[]{3L, 14L, 15L};
+
+        LongArray array = LongArray.of(contents);
+
+        assertEquals(contents.length, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(contents[i - 1], array.at(i));
+        }
+    }
+
+    @Test
+    public void shouldCreateArrayIndependentOfInitialContents() {
+        long[] contents = new long[]{3L, 14L, 15L};
+
+        LongArray array = LongArray.of(contents);
+        contents[0] = 42L;
+
+        assertEquals(3L, array.at(1));
+    }
+
+    @Test
+    public void shouldCreateArrayOfGivenLength() {
+
+        LongArray array = LongArray.ofLength(3);
+
+        assertEquals(3, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(0L, array.at(i));
+        }
+    }
+
+    @Test
+    public void shouldCreateArrayByCopyingOtherArray() {
+        LongArray otherArray = LongArray.of(3L, 14L, 15L);
+
+        LongArray array = LongArray.copyOf(otherArray);
+
+        assertEquals(otherArray.length, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(otherArray.at(i), array.at(i));
+        }
+    }
+
+    @Test
+    public void shouldReturnElementFromArray() {
+        LongArray array = LongArray.of(3L, 14L, 15L);
+
+        long actualElement = array.at(2);
+
+        assertEquals(14L, actualElement);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenAccessingInvalidPositionInArray() {
+        LongArray array = LongArray.of(3L, 14L, 15L);
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Array index out of bound");
+        array.at(5);
+    }
+
+    @Test
+    public void shouldSetElementInArray() {
+        LongArray array = LongArray.of(3L, 14L, 15L);
+        long newElement = 92L;
+
+        array.set(3, newElement);
+
+        assertEquals(newElement, array.at(3));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenSettingOnInvalidPositionInArray() {
+        LongArray array = LongArray.of(3L, 14L, 15L);
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Array index out of bound");
+        array.set(5, 92L);
+    }
+
+    @Test
+    public void shouldSetArrayContentsByCopyingOtherArray() {
+        LongArray otherArray = LongArray.of(3L, 14L, 15L);
+        LongArray array = LongArray.ofLength(otherArray.length);
+
+        array.set(otherArray);
+
+        assertEquals(otherArray.length, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(otherArray.at(i), array.at(i));
+        }
+    }
+
+    @Test
+    public void shouldSetArrayContentsByCopyingItself() {
+        long[] contents = new long[]{3L, 14L, 15L};
+        LongArray array = LongArray.of(contents);
+
+        array.set(array);
+
+        assertEquals(contents.length, array.length);
+        for (int i = 1; i <= array.length; i++) {
+            assertEquals(contents[i - 1], array.at(i));
+        }
+    }
+
+    @Test
+    public void shouldExchangeTwoElementsInArray() {
+        LongArray array = LongArray.of(3L, 14L, 15L);
+
+        array.exch(1, 3);
+
+        assertEquals(15L, array.at(1));
+        assertEquals(3L, array.at(3));
+    }
+
+    @Test
+    public void shouldReturnElementFromArrayWithoutCheckingPosition() {
+        LongArray array = LongArray.of(3L, 14L, 15L);
+
+        assertEquals(14L, array.atUnchecked(2));
+    }
+
+    @Test
+    public void shouldSetElementInArrayWithoutCheckingPosition() {
+        LongArray array = LongArray.of(3L, 14L, 15L);
+
+        array.setUnchecked(3, 92L);
+
+        assertEquals(92L, array.at(3));
+    }
+
+    @Test
+    public void shouldExchangeTwoElementsInArrayWithoutCheckingPositions() {
+        LongArray array = LongArray.of(3L, 14L, 15L);
+
+        array.exchUnchecked(1, 3);
+
+        assertEquals(15L, array.at(1));
+        assertEquals(3L, array.at(3));
+    }
+}
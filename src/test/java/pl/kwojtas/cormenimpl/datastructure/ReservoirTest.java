@@ -0,0 +1,21 @@
+package pl.kwojtas.cormenimpl.datastructure;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ReservoirTest {
+
+    @Test
+    public void shouldCreateEmptyReservoir() {
+        int capacity = 5;
+
+        Reservoir<String> reservoir = new Reservoir<>(capacity);
+
+        assertEquals(capacity, reservoir.getCapacity());
+        assertEquals(capacity, reservoir.sample.length);
+        assertEquals(capacity, reservoir.keys.length);
+        assertEquals(0, reservoir.size);
+    }
+
+}
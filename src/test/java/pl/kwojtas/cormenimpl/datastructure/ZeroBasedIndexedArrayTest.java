@@ -116,4 +116,32 @@ public class ZeroBasedIndexedArrayTest {
         assertEquals("aaa", zeroBasedIndexedArray.at(2));
     }
 
+    @Test
+    public void shouldReturnElementFromZeroBasedIndexedArrayWithoutCheckingPosition() {
+        ZeroBasedIndexedArray<String> zeroBasedIndexedArray = ZeroBasedIndexedArray.of("aaa", "bbb", "ccc");
+
+        String actualElement = zeroBasedIndexedArray.atUnchecked(2);
+
+        assertEquals("ccc", actualElement);
+    }
+
+    @Test
+    public void shouldSetElementInZeroBasedIndexedArrayWithoutCheckingPosition() {
+        ZeroBasedIndexedArray<String> zeroBasedIndexedArray = ZeroBasedIndexedArray.of("aaa", "bbb", "ccc");
+        String newElement = "xyz";
+
+        zeroBasedIndexedArray.setUnchecked(0, newElement);
+
+        assertEquals(newElement, zeroBasedIndexedArray.at(0));
+    }
+
+    @Test
+    public void shouldExchangeTwoElementsInZeroBasedIndexedArrayWithoutCheckingPositions() {
+        ZeroBasedIndexedArray<String> zeroBasedIndexedArray = ZeroBasedIndexedArray.of("aaa", "bbb", "ccc");
+
+        zeroBasedIndexedArray.exchUnchecked(0, 2);
+
+        assertEquals("ccc", zeroBasedIndexedArray.at(0));
+        assertEquals("aaa", zeroBasedIndexedArray.at(2));
+    }
 }